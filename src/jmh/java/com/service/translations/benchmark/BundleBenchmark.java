@@ -0,0 +1,69 @@
+package com.service.translations.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.service.translations.cache.TranslationBundle;
+import com.service.translations.cache.TranslationBundleStore;
+import com.service.translations.service.TranslationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building a locale bundle from the database, reading it from the bundle store, and serializing it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BundleBenchmark {
+
+    @Param({"en"})
+    public String locale;
+
+    // Empty means every tag
+    @Param({"", "mobile"})
+    public String tag;
+
+    private TranslationService service;
+    private TranslationBundleStore bundleStore;
+    private ObjectMapper objectMapper;
+    private TranslationBundle bundle;
+
+    @Setup(Level.Trial)
+    public void setUp(SeededApplication app) {
+        service = app.bean(TranslationService.class);
+        bundleStore = app.bean(TranslationBundleStore.class);
+        objectMapper = app.bean(ObjectMapper.class);
+        bundle = service.getBundle(locale, tag);
+    }
+
+    @Benchmark
+    public Map<String, String> exportBundleCached() {
+        return service.exportBundle(locale, tag);
+    }
+
+    @Benchmark
+    public Map<String, String> exportBundleBuilt() {
+        bundleStore.clear();
+        return service.exportBundle(locale, tag);
+    }
+
+    @Benchmark
+    public byte[] serializeBundle() throws Exception {
+        return objectMapper.writeValueAsBytes(bundle.getEntries());
+    }
+}
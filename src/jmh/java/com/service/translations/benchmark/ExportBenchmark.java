@@ -0,0 +1,75 @@
+package com.service.translations.benchmark;
+
+import com.service.translations.dto.FullTranslationExportDTO;
+import com.service.translations.dto.TranslationExportDTO;
+import com.service.translations.service.TranslationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Paged exports, straight from the database and through the export page caches.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExportBenchmark {
+
+    @Param({"50", "500", "5000"})
+    public int pageSize;
+
+    // A later page, where offset paging pays for the rows it skips
+    @Param({"0", "4"})
+    public int page;
+
+    private TranslationService cached;
+    private TranslationService uncached;
+
+    @Setup(Level.Trial)
+    public void setUp(SeededApplication app) {
+        app.clearCaches();
+        cached = app.bean(TranslationService.class);
+        uncached = app.target(TranslationService.class);
+    }
+
+    @Benchmark
+    public Page<TranslationExportDTO> exportJson() {
+        return uncached.exportJson("en", null, PageRequest.of(page, pageSize));
+    }
+
+    @Benchmark
+    public Page<TranslationExportDTO> exportJsonByTag() {
+        return uncached.exportJson("en", "mobile", PageRequest.of(page, pageSize));
+    }
+
+    @Benchmark
+    public Page<TranslationExportDTO> exportJsonCached() {
+        return cached.exportJson("en", null, PageRequest.of(page, pageSize));
+    }
+
+    @Benchmark
+    public Page<FullTranslationExportDTO> exportAll() {
+        return uncached.exportAll(PageRequest.of(page, pageSize));
+    }
+
+    @Benchmark
+    public Page<FullTranslationExportDTO> exportAllCached() {
+        return cached.exportAll(PageRequest.of(page, pageSize));
+    }
+}
@@ -0,0 +1,69 @@
+package com.service.translations.benchmark;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.service.translations.config.JwtFilter;
+import com.service.translations.util.JwtUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Authenticating a request from its bearer token, with the principal cached and with a cold cache
+ * (signature check plus user lookup).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtFilterBenchmark {
+
+    private JwtFilter filter;
+    private Cache<?, ?> principalCache;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp(SeededApplication app) {
+        filter = app.bean(JwtFilter.class);
+        principalCache = app.bean("principalCache", Cache.class);
+        token = app.bean(JwtUtil.class).generateToken("admin");
+    }
+
+    @Benchmark
+    public Authentication cachedToken() throws Exception {
+        return authenticate();
+    }
+
+    @Benchmark
+    public Authentication uncachedToken() throws Exception {
+        principalCache.invalidateAll();
+        return authenticate();
+    }
+
+    private Authentication authenticate() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/translations/export");
+        request.addHeader("Authorization", "Bearer " + token);
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.service.translations.benchmark;
+
+import com.service.translations.entity.Translation;
+import com.service.translations.service.TranslationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The Specification-based search behind {@code GET /api/translations/search}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SearchBenchmark {
+
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 20);
+
+    private TranslationService service;
+
+    @Setup(Level.Trial)
+    public void setUp(SeededApplication app) {
+        service = app.bean(TranslationService.class);
+    }
+
+    @Benchmark
+    public Page<Translation> byKey() {
+        return service.search("key_4242", null, null, FIRST_PAGE);
+    }
+
+    @Benchmark
+    public Page<Translation> byTag() {
+        return service.search(null, "mobile", null, FIRST_PAGE);
+    }
+
+    @Benchmark
+    public Page<Translation> byContent() {
+        return service.search(null, null, "This is content number 4242", FIRST_PAGE);
+    }
+
+    @Benchmark
+    public Page<Translation> byKeyAndTag() {
+        return service.search("key_4242", "mobile", null, FIRST_PAGE);
+    }
+}
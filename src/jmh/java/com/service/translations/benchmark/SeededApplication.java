@@ -0,0 +1,98 @@
+package com.service.translations.benchmark;
+
+import com.service.translations.TranslationsApplication;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.TypeExcludeFilter;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.test.util.AopTestUtils;
+
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The full application on its in-memory H2, seeded by {@code DataSeeder}, started once per benchmark fork.
+ * Measurements start once seeding and the index loads it triggers have finished.
+ */
+@State(Scope.Benchmark)
+public class SeededApplication {
+
+    private static final String SEEDER = "data-seeder";
+    private static final Set<String> STARTUP_LOADS = Set.of("search-index-rebuild", "coverage-index-load");
+
+    private ConfigurableApplicationContext context;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(TranslationsApplication.class)
+                .initializers(SeededApplication::excludeTestConfigurations)
+                .run("--server.port=0",
+                        "--spring.profiles.active=seed",
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN");
+        awaitStartupLoads();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    // Seeding and the index loads run on background threads once the application is ready; measuring
+    // while they run would time their CPU and connection use as well. Seeding starts further index loads.
+    private static void awaitStartupLoads() {
+        awaitThreads(Set.of(SEEDER));
+        awaitThreads(STARTUP_LOADS);
+    }
+
+    private static void awaitThreads(Set<String> names) {
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (names.contains(thread.getName())) {
+                try {
+                    thread.join();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    // Test sources share the classpath; their security overrides must not replace the real filter chain
+    private static void excludeTestConfigurations(ConfigurableApplicationContext context) {
+        context.getBeanFactory().registerSingleton("benchmarkTypeExcludeFilter", new TypeExcludeFilter() {
+            @Override
+            public boolean match(MetadataReader reader, MetadataReaderFactory factory) {
+                return reader.getAnnotationMetadata().hasAnnotation(TestConfiguration.class.getName());
+            }
+        });
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    public <T> T bean(String name, Class<T> type) {
+        return context.getBean(name, type);
+    }
+
+    /**
+     * The bean behind its caching and transaction proxies, for measuring the uncached path.
+     */
+    public <T> T target(Class<T> type) {
+        return AopTestUtils.getUltimateTargetObject(bean(type));
+    }
+
+    public void clearCaches() {
+        CacheManager caches = bean(CacheManager.class);
+        caches.getCacheNames().forEach(name -> Objects.requireNonNull(caches.getCache(name)).clear());
+    }
+}
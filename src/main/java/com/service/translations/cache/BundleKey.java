@@ -0,0 +1,20 @@
+package com.service.translations.cache;
+
+import lombok.Value;
+
+/**
+ * Identifies a bundle by locale code and optional tag name; a null tag is the bundle of all tags.
+ */
+@Value(staticConstructor = "of")
+public class BundleKey {
+    String locale;
+    String tag;
+
+    public static BundleKey normalized(String locale, String tag) {
+        return of(locale, tag == null || tag.isEmpty() ? null : tag);
+    }
+
+    public boolean isAllTags() {
+        return tag == null;
+    }
+}
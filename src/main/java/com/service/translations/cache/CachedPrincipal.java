@@ -0,0 +1,19 @@
+package com.service.translations.cache;
+
+import lombok.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Instant;
+
+/**
+ * A verified token's resolved user, valid until the token itself expires.
+ */
+@Value
+public class CachedPrincipal {
+    UserDetails userDetails;
+    Instant expiresAt;
+
+    public boolean isExpired(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+}
@@ -0,0 +1,70 @@
+package com.service.translations.cache;
+
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Write epochs per locale, for in-memory state derived from the database and patched from committed writes.
+ * <p>
+ * Every committed write bumps its locale's epoch before the state is patched. State loaded from the
+ * database is installed only if its locale's epoch is unchanged since the load started: otherwise a write
+ * committed during the load may be missing from it, so it answers the read that loaded it and is not kept.
+ */
+public final class LocaleEpochs {
+
+    private final ConcurrentMap<String, AtomicLong> epochs = new ConcurrentHashMap<>();
+    private final AtomicLong total = new AtomicLong();
+
+    public long epoch(String locale) {
+        AtomicLong epoch = epochs.get(locale);
+        return epoch == null ? 0L : epoch.get();
+    }
+
+    // Bumped with every locale's epoch, for state that spans locales
+    public long epoch() {
+        return total.get();
+    }
+
+    public void bump(String locale) {
+        epochs.computeIfAbsent(locale, l -> new AtomicLong()).incrementAndGet();
+        total.incrementAndGet();
+    }
+
+    /**
+     * Stores {@code loaded} under {@code key} unless {@code locale} was written since {@code epochAtLoad}.
+     * Returns {@code loaded} either way.
+     */
+    public <K, V> V install(ConcurrentMap<K, V> target, K key, String locale, V loaded, long epochAtLoad) {
+        target.compute(key, (k, current) -> epoch(locale) == epochAtLoad ? loaded : current);
+        return loaded;
+    }
+
+    /**
+     * The state of {@code locale} in {@code target}, or else state loaded in {@code readOnlyTransaction}
+     * and installed under the epoch rule.
+     */
+    public <V> V readThrough(ConcurrentMap<String, V> target, String locale, TransactionTemplate readOnlyTransaction,
+                             Function<String, V> loader) {
+        V current = target.get(locale);
+        if (current != null) {
+            return current;
+        }
+        long epochAtLoad = epoch(locale);
+        V loaded = readOnlyTransaction.execute(status -> loader.apply(locale));
+        return install(target, locale, locale, loaded, epochAtLoad);
+    }
+
+    /**
+     * A read-only copy of {@code transactionTemplate}, for loads that scan a locale or the whole read model.
+     */
+    public static TransactionTemplate readOnly(TransactionTemplate transactionTemplate) {
+        TransactionTemplate readOnly = new TransactionTemplate(Objects.requireNonNull(transactionTemplate.getTransactionManager()));
+        readOnly.setReadOnly(true);
+        return readOnly;
+    }
+}
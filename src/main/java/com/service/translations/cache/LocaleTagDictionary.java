@@ -0,0 +1,143 @@
+package com.service.translations.cache;
+
+import com.service.translations.entity.Locale;
+import com.service.translations.entity.Tag;
+import com.service.translations.repository.LocaleRepository;
+import com.service.translations.repository.TagRepository;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PostConstruct;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory dictionary of locales and tags, resolving ids, codes and names without a database round trip.
+ * <p>
+ * Loaded at startup and reloaded once every locale or tag write commits. A lookup that misses reloads
+ * (at most once a second) to pick up rows written outside the services.
+ * Callers get their own copies, so the shared snapshot cannot be mutated.
+ */
+@Component
+public class LocaleTagDictionary {
+
+    private static final long MISS_RELOAD_INTERVAL_NANOS = 1_000_000_000L;
+
+    private final LocaleRepository localeRepository;
+    private final TagRepository tagRepository;
+
+    private volatile Snapshot snapshot = new Snapshot(Map.of(), Map.of(), Map.of(), Map.of());
+    private volatile long lastReload;
+
+    public LocaleTagDictionary(LocaleRepository localeRepository, TagRepository tagRepository) {
+        this.localeRepository = localeRepository;
+        this.tagRepository = tagRepository;
+    }
+
+    @PostConstruct
+    public synchronized void refresh() {
+        Map<Long, Locale> localesById = localeRepository.findAll().stream()
+                .collect(Collectors.toUnmodifiableMap(Locale::getId, Function.identity()));
+        Map<Long, Tag> tagsById = tagRepository.findAll().stream()
+                .collect(Collectors.toUnmodifiableMap(Tag::getId, Function.identity()));
+        snapshot = new Snapshot(
+                localesById,
+                localesById.values().stream().collect(Collectors.toUnmodifiableMap(Locale::getCode, Function.identity())),
+                tagsById,
+                tagsById.values().stream().collect(Collectors.toUnmodifiableMap(Tag::getName, Function.identity())));
+        lastReload = System.nanoTime();
+    }
+
+    /**
+     * Reloads once the current transaction commits, ahead of after-commit event listeners that resolve
+     * locales or tags, or right away outside a transaction. A rolled-back write never reaches the dictionary.
+     */
+    public void refreshAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refresh();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public int getOrder() {
+                return Ordered.HIGHEST_PRECEDENCE;
+            }
+
+            @Override
+            public void afterCommit() {
+                refresh();
+            }
+        });
+    }
+
+    public List<Locale> locales() {
+        return snapshot.localesById.values().stream()
+                .map(LocaleTagDictionary::copy)
+                .collect(Collectors.toList());
+    }
+
+    public Optional<Locale> locale(Long id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        return readThrough(s -> s.localesById.get(id)).map(LocaleTagDictionary::copy);
+    }
+
+    public Optional<Locale> locale(String code) {
+        if (code == null) {
+            return Optional.empty();
+        }
+        return readThrough(s -> s.localesByCode.get(code)).map(LocaleTagDictionary::copy);
+    }
+
+    public Optional<Tag> tag(Long id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        return readThrough(s -> s.tagsById.get(id)).map(LocaleTagDictionary::copy);
+    }
+
+    public Optional<Tag> tag(String name) {
+        if (name == null) {
+            return Optional.empty();
+        }
+        return readThrough(s -> s.tagsByName.get(name)).map(LocaleTagDictionary::copy);
+    }
+
+    private <T> Optional<T> readThrough(Function<Snapshot, T> lookup) {
+        T found = lookup.apply(snapshot);
+        if (found == null && System.nanoTime() - lastReload > MISS_RELOAD_INTERVAL_NANOS) {
+            refresh();
+            found = lookup.apply(snapshot);
+        }
+        return Optional.ofNullable(found);
+    }
+
+    private static Locale copy(Locale locale) {
+        return new Locale(locale.getId(), locale.getCode());
+    }
+
+    private static Tag copy(Tag tag) {
+        return new Tag(tag.getId(), tag.getName());
+    }
+
+    private static final class Snapshot {
+        private final Map<Long, Locale> localesById;
+        private final Map<String, Locale> localesByCode;
+        private final Map<Long, Tag> tagsById;
+        private final Map<String, Tag> tagsByName;
+
+        private Snapshot(Map<Long, Locale> localesById, Map<String, Locale> localesByCode,
+                         Map<Long, Tag> tagsById, Map<String, Tag> tagsByName) {
+            this.localesById = localesById;
+            this.localesByCode = localesByCode;
+            this.tagsById = tagsById;
+            this.tagsByName = tagsByName;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.service.translations.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.service.translations.entity.User;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+/**
+ * Drops cached JWT principals when a user changes, so a renamed, re-keyed or removed account is
+ * looked up again on its next request. Entries are keyed by token digest, so the whole cache is cleared.
+ * <p>
+ * The callbacks fire on flush, before the change is visible to other requests; clearing then would let
+ * one of them re-cache the old account, so the cache is cleared once the transaction commits.
+ */
+@Component
+public class PrincipalCacheEvictionListener {
+
+    private final Cache<String, CachedPrincipal> principalCache;
+
+    public PrincipalCacheEvictionListener(Cache<String, CachedPrincipal> principalCache) {
+        this.principalCache = principalCache;
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void onUserChanged(User user) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            principalCache.invalidateAll();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                principalCache.invalidateAll();
+            }
+        });
+    }
+}
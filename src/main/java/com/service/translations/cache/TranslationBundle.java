@@ -0,0 +1,129 @@
+package com.service.translations.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable, versioned key/content bundle. The JSON body is serialized once on first read
+ * and reused until the bundle is replaced by a newer version.
+ * <p>
+ * The content hash is an order-independent sum of per-entry hashes, so it is adjusted in
+ * constant time when a single entry changes and survives restarts for identical content.
+ */
+public class TranslationBundle {
+
+    @Getter
+    private final BundleKey key;
+    @Getter
+    private final long version;
+    @Getter
+    private final Map<String, String> entries;
+    @Getter
+    private final long contentHash;
+    @Getter
+    private final Instant lastModified;
+
+    private final ObjectMapper objectMapper;
+    private volatile byte[] json;
+
+    private TranslationBundle(BundleKey key, long version, Map<String, String> entries, long contentHash,
+                              Instant lastModified, ObjectMapper objectMapper) {
+        this.key = key;
+        this.version = version;
+        this.entries = Collections.unmodifiableMap(entries);
+        this.contentHash = contentHash;
+        this.lastModified = lastModified;
+        this.objectMapper = objectMapper;
+    }
+
+    static TranslationBundle of(BundleKey key, long version, Map<String, String> entries, Instant lastModified,
+                                ObjectMapper objectMapper) {
+        long hash = 0L;
+        for (Map.Entry<String, String> entry : entries.entrySet()) {
+            hash += entryHash(entry.getKey(), entry.getValue());
+        }
+        return new TranslationBundle(key, version, entries, hash, lastModified, objectMapper);
+    }
+
+    TranslationBundle withPut(String entryKey, String content, long newVersion, Instant modifiedAt) {
+        Map<String, String> copy = new HashMap<>(entries);
+        String previous = copy.put(entryKey, content);
+        long hash = contentHash + entryHash(entryKey, content);
+        if (previous != null) {
+            hash -= entryHash(entryKey, previous);
+        }
+        return new TranslationBundle(key, newVersion, copy, hash, latest(modifiedAt), objectMapper);
+    }
+
+    TranslationBundle withRemoved(String entryKey, long newVersion, Instant modifiedAt) {
+        if (!entries.containsKey(entryKey)) {
+            return this;
+        }
+        Map<String, String> copy = new HashMap<>(entries);
+        String previous = copy.remove(entryKey);
+        long hash = contentHash - entryHash(entryKey, previous);
+        return new TranslationBundle(key, newVersion, copy, hash, latest(modifiedAt), objectMapper);
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /**
+     * Strong validator derived from the content hash and entry count.
+     */
+    public String getETag() {
+        return "\"" + getContentId() + "\"";
+    }
+
+    /**
+     * Content address of this bundle: identical entries always give the same id.
+     */
+    public String getContentId() {
+        return Long.toHexString(contentHash) + "-" + Integer.toHexString(entries.size());
+    }
+
+    public byte[] getJson() {
+        byte[] body = json;
+        if (body == null) {
+            try {
+                body = objectMapper.writeValueAsBytes(entries);
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Could not serialize bundle " + key, e);
+            }
+            json = body;
+        }
+        return body;
+    }
+
+    private Instant latest(Instant modifiedAt) {
+        return modifiedAt.isAfter(lastModified) ? modifiedAt : lastModified;
+    }
+
+    // 64-bit FNV-1a over key and content, finished with the MurmurHash3 mixer
+    private static long entryHash(String entryKey, String content) {
+        long h = 0xcbf29ce484222325L;
+        h = fnv(h, entryKey);
+        h = (h ^ 0xff) * 0x100000001b3L;
+        h = fnv(h, content);
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private static long fnv(long h, String s) {
+        for (int i = 0; i < s.length(); i++) {
+            h = (h ^ s.charAt(i)) * 0x100000001b3L;
+        }
+        return h;
+    }
+}
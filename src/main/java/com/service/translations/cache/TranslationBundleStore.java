@@ -0,0 +1,143 @@
+package com.service.translations.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.service.translations.dto.FullTranslationExportDTO;
+import com.service.translations.event.TranslationChangedEvent;
+import com.service.translations.event.TranslationsBatchChangedEvent;
+import com.service.translations.event.TranslationsReloadedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+
+/**
+ * In-memory store of export bundles keyed by (locale, tag), held in the bounded {@code bundles} cache.
+ * <p>
+ * Bundles are loaded from the database on first use and then patched in place from
+ * {@link TranslationChangedEvent}s once the writing transaction has committed, so reads
+ * never go back to the database while a bundle is resident. Bundles are installed under the
+ * {@link LocaleEpochs} rule: one loaded while a write to its locale was committing is served but not kept.
+ */
+@Component
+public class TranslationBundleStore {
+
+    private final ObjectMapper objectMapper;
+    private final Cache<BundleKey, TranslationBundle> cache;
+    private final ConcurrentMap<BundleKey, TranslationBundle> bundles;
+    private final LocaleEpochs epochs = new LocaleEpochs();
+    private final AtomicLong versions = new AtomicLong();
+
+    public TranslationBundleStore(ObjectMapper objectMapper, Cache<BundleKey, TranslationBundle> bundleCache) {
+        this.objectMapper = objectMapper;
+        this.cache = bundleCache;
+        this.bundles = bundleCache.asMap();
+    }
+
+    public TranslationBundle get(BundleKey key) {
+        return cache.getIfPresent(key);
+    }
+
+    public long epoch(String locale) {
+        return epochs.epoch(locale);
+    }
+
+    // Changes with a write to any locale, for state such as exportAll pages that spans locales
+    public long epoch() {
+        return epochs.epoch();
+    }
+
+    public TranslationBundle install(BundleKey key, Map<String, String> entries, Instant lastModified, long epochAtLoad) {
+        TranslationBundle loaded = TranslationBundle.of(key, versions.incrementAndGet(), entries, lastModified, objectMapper);
+        return epochs.install(bundles, key, key.getLocale(), loaded, epochAtLoad);
+    }
+
+    public void evict(BundleKey key) {
+        bundles.remove(key);
+    }
+
+    public void clear() {
+        bundles.clear();
+    }
+
+    // Bulk writes touch too many rows to patch one by one; the affected bundles are dropped and reload on demand
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTranslationsBatchChanged(TranslationsBatchChangedEvent event) {
+        Set<BundleKey> touched = new HashSet<>();
+        for (TranslationChangedEvent change : event.getChanges()) {
+            for (FullTranslationExportDTO snapshot : new FullTranslationExportDTO[]{change.getBefore(), change.getAfter()}) {
+                if (snapshot != null) {
+                    touched.add(BundleKey.normalized(snapshot.getLocaleCode(), snapshot.getTagName()));
+                    touched.add(BundleKey.normalized(snapshot.getLocaleCode(), null));
+                }
+            }
+        }
+        touched.stream().map(BundleKey::getLocale).distinct().forEach(epochs::bump);
+        touched.forEach(bundles::remove);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTranslationsReloaded(TranslationsReloadedEvent event) {
+        event.getLocales().forEach(epochs::bump);
+        bundles.keySet().removeIf(key -> event.getLocales().contains(key.getLocale()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTranslationChanged(TranslationChangedEvent event) {
+        FullTranslationExportDTO before = event.getBefore();
+        FullTranslationExportDTO after = event.getAfter();
+
+        if (before != null) {
+            epochs.bump(before.getLocaleCode());
+        }
+        if (after != null) {
+            epochs.bump(after.getLocaleCode());
+        }
+        Instant modifiedAt = after != null && after.getUpdatedAt() != null
+                ? after.getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant()
+                : Instant.now();
+
+        if (before != null && !sameSlot(before, after)) {
+            patch(BundleKey.of(before.getLocaleCode(), before.getTagName()),
+                    bundle -> bundle.withRemoved(before.getKey(), versions.incrementAndGet(), modifiedAt));
+
+            // The all-tags bundle may hold the same key from another tag, so it is rebuilt rather than patched
+            boolean keyStaysInLocale = after != null
+                    && before.getLocaleCode().equals(after.getLocaleCode())
+                    && before.getKey().equals(after.getKey());
+            if (!keyStaysInLocale) {
+                bundles.remove(BundleKey.of(before.getLocaleCode(), null));
+            }
+        }
+
+        if (after != null) {
+            UnaryOperator<TranslationBundle> put =
+                    bundle -> bundle.withPut(after.getKey(), after.getContent(), versions.incrementAndGet(), modifiedAt);
+            patch(BundleKey.of(after.getLocaleCode(), after.getTagName()), put);
+            patch(BundleKey.of(after.getLocaleCode(), null), put);
+        }
+    }
+
+    private void patch(BundleKey key, UnaryOperator<TranslationBundle> change) {
+        bundles.computeIfPresent(key, (k, current) -> {
+            TranslationBundle patched = change.apply(current);
+            // An emptied bundle is dropped so the next read reports it as missing
+            return patched.isEmpty() ? null : patched;
+        });
+    }
+
+    private static boolean sameSlot(FullTranslationExportDTO before, FullTranslationExportDTO after) {
+        return after != null
+                && before.getLocaleCode().equals(after.getLocaleCode())
+                && Objects.equals(before.getTagName(), after.getTagName())
+                && before.getKey().equals(after.getKey());
+    }
+}
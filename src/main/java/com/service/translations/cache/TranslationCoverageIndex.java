@@ -0,0 +1,393 @@
+package com.service.translations.cache;
+
+import com.service.translations.dto.CursorPageDTO;
+import com.service.translations.dto.FullTranslationExportDTO;
+import com.service.translations.dto.LocaleCoverageDTO;
+import com.service.translations.dto.TranslationKeyDTO;
+import com.service.translations.event.TranslationChangedEvent;
+import com.service.translations.event.TranslationsBatchChangedEvent;
+import com.service.translations.event.TranslationsReloadedEvent;
+import com.service.translations.repository.TranslationExportRepository;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Per-locale bitsets over interned (tag, key) slots, compared against a reference locale.
+ * <p>
+ * Completeness counts per (locale, tag) and each locale's missing keys are adjusted on every committed
+ * write rather than recomputed, so a page of missing keys costs its size and not the number of keys. The whole index is
+ * loaded once the application is ready (or on first use) and then patched from translation events;
+ * events that arrive during a load are queued and replayed onto it, as with the search index.
+ */
+@Component
+public class TranslationCoverageIndex {
+
+    private static final String NO_TAG = "";
+
+    private final TranslationExportRepository repo;
+    private final TransactionTemplate readOnlyTransaction;
+    @Getter
+    private final String referenceLocale;
+    private final TaskExecutor taskExecutor;
+    // Bumped only by bulk reloads, which replace the index rather than patch it
+    private final LocaleEpochs reloads = new LocaleEpochs();
+    private final Object pendingLock = new Object();
+    // Changes committed while a load runs; null when no load is running
+    private List<TranslationChangedEvent> pending;
+    private volatile Coverage coverage;
+
+    public TranslationCoverageIndex(TranslationExportRepository repo,
+                                    TransactionTemplate transactionTemplate,
+                                    @Value("${translations.coverage.reference-locale:en}") String referenceLocale,
+                                    @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+                                    TaskExecutor taskExecutor) {
+        this.repo = repo;
+        this.readOnlyTransaction = LocaleEpochs.readOnly(transactionTemplate);
+        this.referenceLocale = referenceLocale;
+        this.taskExecutor = taskExecutor;
+    }
+
+    // Loading scans every translation, so it is done once in the background rather than on the first request
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        taskExecutor.execute(this::coverage);
+    }
+
+    /**
+     * Completeness of each locale against the reference, for one tag or across all tags when {@code tag} is null.
+     */
+    public List<LocaleCoverageDTO> completeness(Collection<String> locales, String tag) {
+        return coverage().completeness(locales, tag);
+    }
+
+    /**
+     * Reference keys missing from {@code locale}, in key order, starting after the key in {@code cursor}.
+     */
+    public CursorPageDTO<TranslationKeyDTO> missing(String locale, String tag, String cursor, int size) {
+        return coverage().missing(locale, tag, cursor, size);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTranslationChanged(TranslationChangedEvent event) {
+        apply(List.of(event));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTranslationsBatchChanged(TranslationsBatchChangedEvent event) {
+        apply(event.getChanges());
+    }
+
+    // Coverage spans every locale, so a bulk load anywhere replaces the whole index
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTranslationsReloaded(TranslationsReloadedEvent event) {
+        event.getLocales().forEach(reloads::bump);
+        coverage = null;
+        warmUp();
+    }
+
+    private void apply(List<TranslationChangedEvent> changes) {
+        Coverage current;
+        synchronized (pendingLock) {
+            if (pending != null) {
+                pending.addAll(changes);
+                return;
+            }
+            current = coverage;
+        }
+        // Without a loaded index the next load reads these changes from the database
+        if (current != null) {
+            patch(current, changes);
+        }
+    }
+
+    private static void patch(Coverage current, List<TranslationChangedEvent> changes) {
+        current.lock.writeLock().lock();
+        try {
+            for (TranslationChangedEvent change : changes) {
+                if (change.getBefore() != null) {
+                    current.remove(change.getBefore());
+                }
+                if (change.getAfter() != null) {
+                    current.add(change.getAfter());
+                }
+            }
+        } finally {
+            current.lock.writeLock().unlock();
+        }
+    }
+
+    private Coverage coverage() {
+        Coverage loaded = coverage;
+        if (loaded != null) {
+            return loaded;
+        }
+        synchronized (this) {
+            if (coverage != null) {
+                return coverage;
+            }
+            long reloadsAtLoad = reloads.epoch();
+            Coverage built = new Coverage(referenceLocale);
+            synchronized (pendingLock) {
+                pending = new ArrayList<>();
+            }
+            try {
+                readOnlyTransaction.executeWithoutResult(status -> {
+                    try (Stream<FullTranslationExportDTO> rows = repo.streamAllForExport()) {
+                        rows.forEach(built::add);
+                    }
+                });
+            } catch (RuntimeException e) {
+                synchronized (pendingLock) {
+                    pending = null;
+                }
+                throw e;
+            }
+            // Replayed in commit order; a change the scan already saw leaves the same bits behind
+            synchronized (pendingLock) {
+                patch(built, pending);
+                pending = null;
+                if (reloads.epoch() == reloadsAtLoad) {
+                    coverage = built;
+                }
+            }
+            return built;
+        }
+    }
+
+    private static final class Coverage {
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private final String referenceLocale;
+
+        private final Map<String, Integer> slotIds = new HashMap<>();
+        private int slotCount;
+        // Slots of each key under its tags
+        private final Map<String, List<Integer>> keySlots = new HashMap<>();
+        private int[] slotTags = new int[1024];
+        private String[] slotKeys = new String[1024];
+        private final Map<String, Integer> tagIds = new HashMap<>();
+        private final List<String> tagNames = new ArrayList<>();
+
+        private final Map<String, BitSet> present = new HashMap<>();
+        // Keys of the reference locale, which is everything a locale without rows is missing
+        private final SlotKeys referenceKeys = new SlotKeys();
+        // Per locale other than the reference: reference keys it lacks
+        private final Map<String, SlotKeys> missingKeys = new HashMap<>();
+        // Per locale and tag id: slots present in both the locale and the reference
+        private final Map<String, int[]> covered = new HashMap<>();
+        private int[] referenceCounts = new int[0];
+
+        private Coverage(String referenceLocale) {
+            this.referenceLocale = referenceLocale;
+        }
+
+        private void add(FullTranslationExportDTO row) {
+            int slot = intern(tagOf(row), row.getKey());
+            BitSet bits = present.get(row.getLocaleCode());
+            if (bits == null) {
+                bits = new BitSet();
+                present.put(row.getLocaleCode(), bits);
+                if (!row.getLocaleCode().equals(referenceLocale)) {
+                    missingKeys.put(row.getLocaleCode(), referenceKeys.copy());
+                }
+            }
+            if (bits.get(slot)) {
+                return;
+            }
+            bits.set(slot);
+            adjust(row.getLocaleCode(), slot, 1);
+        }
+
+        private void remove(FullTranslationExportDTO row) {
+            Integer slot = slotIds.get(slotName(tagOf(row), row.getKey()));
+            BitSet bits = present.get(row.getLocaleCode());
+            if (slot == null || bits == null || !bits.get(slot)) {
+                return;
+            }
+            bits.clear(slot);
+            adjust(row.getLocaleCode(), slot, -1);
+        }
+
+        private void adjust(String locale, int slot, int delta) {
+            int tag = slotTags[slot];
+            String key = slotKeys[slot];
+            if (locale.equals(referenceLocale)) {
+                referenceCounts = grow(referenceCounts, tag);
+                referenceCounts[tag] += delta;
+                referenceKeys.adjust(key, tag, delta);
+                // Every other locale holding this slot gains or loses a covered key, and every other one a missing key
+                for (Map.Entry<String, BitSet> entry : present.entrySet()) {
+                    if (entry.getKey().equals(referenceLocale)) {
+                        continue;
+                    }
+                    if (entry.getValue().get(slot)) {
+                        coveredCounts(entry.getKey(), tag)[tag] += delta;
+                    } else {
+                        missingKeys.get(entry.getKey()).adjust(key, tag, delta);
+                    }
+                }
+            } else if (present.getOrDefault(referenceLocale, new BitSet()).get(slot)) {
+                coveredCounts(locale, tag)[tag] += delta;
+                missingKeys.get(locale).adjust(key, tag, -delta);
+            }
+        }
+
+        private int[] coveredCounts(String locale, int tag) {
+            int[] counts = grow(covered.getOrDefault(locale, new int[0]), tag);
+            covered.put(locale, counts);
+            return counts;
+        }
+
+        private int intern(String tag, String key) {
+            return slotIds.computeIfAbsent(slotName(tag, key), name -> {
+                int slot = slotCount++;
+                keySlots.computeIfAbsent(key, k -> new ArrayList<>()).add(slot);
+                if (slot == slotTags.length) {
+                    slotTags = Arrays.copyOf(slotTags, slot * 2);
+                    slotKeys = Arrays.copyOf(slotKeys, slot * 2);
+                }
+                slotKeys[slot] = key;
+                slotTags[slot] = tagIds.computeIfAbsent(tag, t -> {
+                    tagNames.add(t);
+                    return tagNames.size() - 1;
+                });
+                return slot;
+            });
+        }
+
+        private List<LocaleCoverageDTO> completeness(Collection<String> locales, String tag) {
+            lock.readLock().lock();
+            try {
+                Integer tagId = tag == null ? null : tagIds.get(tag);
+                List<LocaleCoverageDTO> result = new ArrayList<>();
+                for (String locale : locales) {
+                    if (locale.equals(referenceLocale)) {
+                        continue;
+                    }
+                    int[] counts = covered.getOrDefault(locale, new int[0]);
+                    long reference;
+                    long translated;
+                    if (tag == null) {
+                        reference = Arrays.stream(referenceCounts).sum();
+                        translated = Arrays.stream(counts).sum();
+                    } else {
+                        reference = tagId == null || tagId >= referenceCounts.length ? 0 : referenceCounts[tagId];
+                        translated = tagId == null || tagId >= counts.length ? 0 : counts[tagId];
+                    }
+                    double percent = reference == 0 ? 100.0 : Math.round(translated * 10000.0 / reference) / 100.0;
+                    result.add(new LocaleCoverageDTO(locale, tag, referenceLocale, reference, translated,
+                            reference - translated, percent));
+                }
+                return result;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private CursorPageDTO<TranslationKeyDTO> missing(String locale, String tag, String cursor, int size) {
+            lock.readLock().lock();
+            try {
+                Integer tagId = tag == null ? null : tagIds.get(tag);
+                if (locale.equals(referenceLocale) || (tag != null && tagId == null)) {
+                    return new CursorPageDTO<>(List.of(), 0, false, null);
+                }
+
+                BitSet reference = present.getOrDefault(referenceLocale, new BitSet());
+                BitSet translated = present.getOrDefault(locale, new BitSet());
+                NavigableSet<String> missing = missingKeys.getOrDefault(locale, referenceKeys).keys(tagId);
+                Iterator<String> after = (cursor == null || cursor.isEmpty() ? missing : missing.tailSet(cursor, false)).iterator();
+                List<TranslationKeyDTO> keys = new ArrayList<>(size);
+                while (keys.size() < size && after.hasNext()) {
+                    String key = after.next();
+                    List<String> tags = new ArrayList<>();
+                    for (int slot : keySlots.get(key)) {
+                        String tagName = tagNames.get(slotTags[slot]);
+                        if (reference.get(slot) && !translated.get(slot) && (tagId == null || slotTags[slot] == tagId)
+                                && !NO_TAG.equals(tagName)) {
+                            tags.add(tagName);
+                        }
+                    }
+                    keys.add(new TranslationKeyDTO(key, tags));
+                }
+                boolean hasMore = after.hasNext();
+                String nextCursor = hasMore ? keys.get(keys.size() - 1).getKey() : null;
+                return new CursorPageDTO<>(keys, keys.size(), hasMore, nextCursor);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private static String slotName(String tag, String key) {
+            return tag + '\u0000' + key;
+        }
+
+        private static String tagOf(FullTranslationExportDTO row) {
+            return row.getTagName() == null ? NO_TAG : row.getTagName();
+        }
+
+        private static int[] grow(int[] counts, int index) {
+            return index < counts.length ? counts : Arrays.copyOf(counts, index + 1);
+        }
+    }
+
+    // A set of (tag, key) slots, as keys in key order overall and per tag id
+    private static final class SlotKeys {
+        // How many of each key's slots are in the set
+        private final TreeMap<String, Integer> slots;
+        private final Map<Integer, TreeSet<String>> tagKeys;
+
+        private SlotKeys() {
+            this(new TreeMap<>(), new HashMap<>());
+        }
+
+        private SlotKeys(TreeMap<String, Integer> slots, Map<Integer, TreeSet<String>> tagKeys) {
+            this.slots = slots;
+            this.tagKeys = tagKeys;
+        }
+
+        private void adjust(String key, int tag, int delta) {
+            if (delta > 0) {
+                slots.merge(key, 1, Integer::sum);
+                tagKeys.computeIfAbsent(tag, t -> new TreeSet<>()).add(key);
+            } else {
+                slots.computeIfPresent(key, (k, count) -> count == 1 ? null : count - 1);
+                TreeSet<String> keys = tagKeys.get(tag);
+                if (keys != null) {
+                    keys.remove(key);
+                }
+            }
+        }
+
+        private NavigableSet<String> keys(Integer tag) {
+            return tag == null ? slots.navigableKeySet() : tagKeys.getOrDefault(tag, new TreeSet<>());
+        }
+
+        private SlotKeys copy() {
+            Map<Integer, TreeSet<String>> tagKeysCopy = new HashMap<>();
+            tagKeys.forEach((tag, keys) -> tagKeysCopy.put(tag, new TreeSet<>(keys)));
+            return new SlotKeys(new TreeMap<>(slots), tagKeysCopy);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.service.translations.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dedicated, bounded pools for work that must not run on (or starve) the request threads.
+ * <p>
+ * Each pool has a fixed thread count and a bounded queue; a full queue rejects immediately so
+ * callers can answer 429 instead of piling up. Pools are published as {@code executor.*} metrics
+ * (queued, active, completed, execution and idle time) tagged with their name, plus an
+ * {@code executor.rejected} counter.
+ * <p>
+ * Pools stay private to the component that uses them: an {@link java.util.concurrent.Executor} bean
+ * would displace Spring Boot's {@code applicationTaskExecutor}.
+ */
+final class BoundedExecutors {
+
+    private BoundedExecutors() {
+    }
+
+    static ExecutorService boundedExecutor(String name, int threads, int queueCapacity, MeterRegistry registry) {
+        return boundedExecutor(name, threads, queueCapacity, false, registry);
+    }
+
+    /**
+     * With {@code callerRuns}, a saturated pool runs the task on the submitting thread instead of
+     * rejecting it, which slows the caller down rather than failing the request.
+     */
+    static ExecutorService boundedExecutor(String name, int threads, int queueCapacity, boolean callerRuns,
+                                           MeterRegistry registry) {
+        Counter rejected = Counter.builder("executor.rejected")
+                .description("Tasks rejected because the pool and its queue were full")
+                .tag("name", name)
+                .register(registry);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory(name + "-"),
+                (task, pool) -> {
+                    rejected.increment();
+                    if (callerRuns && !pool.isShutdown()) {
+                        task.run();
+                        return;
+                    }
+                    throw new RejectedExecutionException(name + " executor is saturated");
+                });
+        return ExecutorServiceMetrics.monitor(registry, executor, name);
+    }
+}
@@ -0,0 +1,107 @@
+package com.service.translations.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.service.translations.cache.BundleKey;
+import com.service.translations.cache.CachedPrincipal;
+import com.service.translations.cache.TranslationBundle;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Page;
+
+import java.time.Duration;
+import java.time.Instant;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String ALL_TRANSLATIONS = "allTranslations";
+    public static final String LOCALE_TRANSLATIONS = "localeTranslations";
+    public static final String BUNDLES = "bundles";
+    public static final String PRINCIPALS = "principals";
+
+    @Value("${translations.cache.exports.max-rows:200000}")
+    private long exportMaxRows;
+
+    @Value("${translations.cache.exports.ttl:10m}")
+    private Duration exportTtl;
+
+    @Value("${translations.cache.bundles.max-entries:2000000}")
+    private long bundleMaxEntries;
+
+    @Value("${translations.cache.bundles.ttl:1h}")
+    private Duration bundleTtl;
+
+    @Bean
+    public Cache<BundleKey, TranslationBundle> bundleCache() {
+        return Caffeine.newBuilder()
+                .maximumWeight(bundleMaxEntries)
+                .weigher((BundleKey key, TranslationBundle bundle) -> Math.max(1, bundle.getEntries().size()))
+                .expireAfterWrite(bundleTtl)
+                .recordStats()
+                .build();
+    }
+
+    @Value("${translations.cache.principals.max-entries:100000}")
+    private long principalMaxEntries;
+
+    // Keyed by token digest; each entry lives until its token expires
+    @Bean
+    public Cache<String, CachedPrincipal> principalCache() {
+        return Caffeine.newBuilder()
+                .maximumSize(principalMaxEntries)
+                .expireAfter(new Expiry<String, CachedPrincipal>() {
+                    @Override
+                    public long expireAfterCreate(String key, CachedPrincipal value, long currentTime) {
+                        return Math.max(0, Duration.between(Instant.now(), value.getExpiresAt()).toNanos());
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, CachedPrincipal value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, CachedPrincipal value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+    }
+
+    @Bean
+    public CacheManager cacheManager(Cache<BundleKey, TranslationBundle> bundleCache,
+                                     Cache<String, CachedPrincipal> principalCache) {
+        CaffeineCacheManager manager = new CaffeineCacheManager();
+        manager.registerCustomCache(ALL_TRANSLATIONS, exportPageCache());
+        manager.registerCustomCache(LOCALE_TRANSLATIONS, exportPageCache());
+        manager.registerCustomCache(BUNDLES, castCache(bundleCache));
+        manager.registerCustomCache(PRINCIPALS, castCache(principalCache));
+        // Evictions issued inside a write transaction are deferred until it commits
+        return new TransactionAwareCacheManagerProxy(manager);
+    }
+
+    // Export pages are weighed by their row count so the bound tracks memory rather than page count
+    private Cache<Object, Object> exportPageCache() {
+        return Caffeine.newBuilder()
+                .maximumWeight(exportMaxRows)
+                .weigher((Object key, Object value) ->
+                        value instanceof Page ? Math.max(1, ((Page<?>) value).getNumberOfElements()) : 1)
+                .expireAfterWrite(exportTtl)
+                .recordStats()
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Cache<Object, Object> castCache(Cache<?, ?> cache) {
+        return (Cache<Object, Object>) cache;
+    }
+}
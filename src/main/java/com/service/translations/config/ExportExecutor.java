@@ -0,0 +1,96 @@
+package com.service.translations.config;
+
+import com.service.translations.metrics.QueryCounter;
+import com.service.translations.util.VirtualThreads;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Runs blocking export work on its own bounded pool rather than the common ForkJoinPool, so large
+ * exports neither starve each other unboundedly nor the parallel streams of the rest of the JVM.
+ * <p>
+ * A saturated pool either rejects the export ({@code abort}, answered with 429) or runs it on the
+ * request thread ({@code caller-runs}). Each export is given up on after the configured timeout and
+ * answered with 503: a queued export is dropped and a running one is interrupted, so its worker is freed.
+ * The export page query also carries a JDBC query timeout, since a statement blocked in the driver may not
+ * notice the interrupt. In virtual-thread mode each export gets its own virtual thread instead.
+ */
+@Component
+public class ExportExecutor {
+
+    public static final String NAME = "export";
+
+    private final ExecutorService executor;
+    private final Duration timeout;
+    private final QueryCounter queryCounter;
+
+    public ExportExecutor(MeterRegistry registry,
+                          QueryCounter queryCounter,
+                          @Value("${translations.export.executor.threads:4}") int threads,
+                          @Value("${translations.export.executor.queue-capacity:16}") int queueCapacity,
+                          @Value("${translations.export.executor.rejection-policy:abort}") String rejectionPolicy,
+                          @Value("${translations.export.executor.timeout:60s}") Duration timeout,
+                          @Value("${translations.virtual-threads.enabled:false}") boolean virtualThreads) {
+        boolean callerRuns;
+        switch (rejectionPolicy) {
+            case "abort":
+                callerRuns = false;
+                break;
+            case "caller-runs":
+                callerRuns = true;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown export rejection policy: " + rejectionPolicy);
+        }
+        // Virtual threads are cheap to block, so exports are no longer pooled and the JDBC limiter bounds them instead
+        Optional<ExecutorService> virtual = virtualThreads
+                ? VirtualThreads.newThreadPerTaskExecutor(NAME + "-vt-")
+                : Optional.empty();
+        this.executor = virtual.isPresent()
+                ? ExecutorServiceMetrics.monitor(registry, virtual.get(), NAME)
+                : BoundedExecutors.boundedExecutor(NAME, threads, queueCapacity, callerRuns, registry);
+        this.timeout = timeout;
+        this.queryCounter = queryCounter;
+    }
+
+    /**
+     * Starts {@code task} on the export pool. Throws {@link java.util.concurrent.RejectedExecutionException}
+     * when the pool is saturated under the abort policy; the future fails with a
+     * {@link java.util.concurrent.TimeoutException} if the task outlives the timeout, and the task is cancelled.
+     */
+    public <T> CompletableFuture<T> supply(Supplier<T> task) {
+        Supplier<T> propagated = queryCounter.propagate(task);
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Future<?> worker = executor.submit(() -> {
+            try {
+                result.complete(propagated.get());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        });
+        // Armed after submit: under caller-runs a saturated pool has already run the task on this thread
+        result.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS).whenComplete((value, error) -> {
+            if (error instanceof TimeoutException) {
+                worker.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -1,13 +1,18 @@
 package com.service.translations.config;
 
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.service.translations.cache.CachedPrincipal;
 import com.service.translations.serviceImplementation.UserDetailsServiceImpl;
 import com.service.translations.util.JwtUtil;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -17,6 +22,11 @@ import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
 import javax.servlet.http.*;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
 
 @Component
 public class JwtFilter extends OncePerRequestFilter {
@@ -27,22 +37,20 @@ public class JwtFilter extends OncePerRequestFilter {
     @Autowired
     private UserDetailsServiceImpl userDetailsService;
 
+    @Autowired
+    private Cache<String, CachedPrincipal> principalCache;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
 
         String header = request.getHeader("Authorization");
-        String token = null;
-        String username = null;
-
-        if (header != null && header.startsWith("Bearer ")) {
-            token = header.substring(7);
-            username = jwtUtil.extractUsername(token);
-        }
 
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-            if (jwtUtil.validateToken(token)) {
+        if (header != null && header.startsWith("Bearer ")
+                && SecurityContextHolder.getContext().getAuthentication() == null) {
+            CachedPrincipal principal = resolve(header.substring(7));
+            if (principal != null) {
+                UserDetails userDetails = principal.getUserDetails();
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                         userDetails, null, userDetails.getAuthorities());
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -52,4 +60,37 @@ public class JwtFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
+
+    // The token is verified and its user loaded once; later requests with it hit the cache until it expires
+    private CachedPrincipal resolve(String token) {
+        String digest = digest(token);
+        CachedPrincipal cached = principalCache.getIfPresent(digest);
+        if (cached != null && !cached.isExpired(Instant.now())) {
+            return cached;
+        }
+
+        Claims claims;
+        UserDetails userDetails;
+        try {
+            claims = jwtUtil.parseClaims(token);
+            userDetails = userDetailsService.loadUserByUsername(claims.getSubject());
+        } catch (JwtException | IllegalArgumentException | UsernameNotFoundException e) {
+            return null;
+        }
+        if (claims.getExpiration() == null) {
+            return new CachedPrincipal(userDetails, Instant.MAX);
+        }
+        CachedPrincipal principal = new CachedPrincipal(userDetails, claims.getExpiration().toInstant());
+        principalCache.put(digest, principal);
+        return principal;
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
@@ -0,0 +1,43 @@
+package com.service.translations.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+
+/**
+ * Runs password verification on its own bounded pool, so a burst of logins queues for CPU here
+ * instead of holding request threads. A full queue rejects the login, which is answered with 429.
+ */
+@Component
+public class LoginExecutor {
+
+    public static final String NAME = "login";
+
+    private final ExecutorService executor;
+
+    // BCrypt is CPU bound, so by default the pool matches the core count
+    public LoginExecutor(MeterRegistry registry,
+                         @Value("${translations.auth.login.threads:0}") int threads,
+                         @Value("${translations.auth.login.queue-capacity:100}") int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = BoundedExecutors.boundedExecutor(NAME, poolSize, queueCapacity, registry);
+    }
+
+    /**
+     * Starts {@code task} on the login pool. Throws {@link java.util.concurrent.RejectedExecutionException}
+     * when the pool and its queue are full.
+     */
+    public <T> CompletableFuture<T> supply(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, executor);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,26 @@
+package com.service.translations.config;
+
+import com.service.translations.metrics.QueryCounter;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hooks that feed the custom metrics; the meters themselves are registered where they are recorded.
+ * HTTP latency percentiles, cache, executor and Hikari pool metrics come from Actuator and are
+ * configured in application.properties.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public QueryCounter queryCounter() {
+        return new QueryCounter();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCounterInspector(QueryCounter queryCounter) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, queryCounter);
+    }
+}
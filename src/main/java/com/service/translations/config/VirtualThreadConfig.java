@@ -0,0 +1,86 @@
+package com.service.translations.config;
+
+import com.service.translations.util.VirtualThreads;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.annotation.PreDestroy;
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Opt-in mode running servlet requests on virtual threads (JDK 21+).
+ * <p>
+ * Tomcat's platform-thread pool is replaced by a thread-per-request virtual executor, and the
+ * DataSource is wrapped in a {@link ConcurrencyLimitingDataSource} so the now unbounded number of
+ * in-flight requests queues for the database instead of overrunning the pool. On older runtimes the
+ * mode logs a warning and Tomcat keeps its own pool; the JDBC limit still applies.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "translations.virtual-threads.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    private final ExecutorService requestExecutor = VirtualThreads.newThreadPerTaskExecutor("http-vt-").orElse(null);
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandler() {
+        if (requestExecutor == null) {
+            log.warn("translations.virtual-threads.enabled is set but this JVM ({}) has no virtual threads; "
+                    + "requests stay on Tomcat's thread pool", Runtime.version());
+            return protocolHandler -> { };
+        }
+        return protocolHandler -> protocolHandler.setExecutor(requestExecutor);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (requestExecutor != null) {
+            requestExecutor.shutdown();
+        }
+    }
+
+    @Bean
+    public static BeanPostProcessor jdbcConcurrencyLimiter(
+            @Value("${translations.virtual-threads.jdbc-max-concurrency:10}") int maxConcurrency,
+            @Value("${translations.virtual-threads.jdbc-acquire-timeout:30s}") Duration acquireTimeout) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+                if (!(bean instanceof DataSource) || bean instanceof ConcurrencyLimitingDataSource) {
+                    return bean;
+                }
+                return new ConcurrencyLimitingDataSource((DataSource) bean, maxConcurrency, acquireTimeout);
+            }
+        };
+    }
+
+    // Registered once every singleton exists; asking for the registry while the DataSource is built would be circular
+    @Bean
+    public SmartInitializingSingleton jdbcConcurrencyLimiterMetrics(ListableBeanFactory beanFactory,
+                                                                    ObjectProvider<MeterRegistry> registry) {
+        return () -> registry.ifAvailable(meters ->
+                beanFactory.getBeansOfType(ConcurrencyLimitingDataSource.class).forEach((name, limited) -> {
+                    Gauge.builder("jdbc.limiter.active", limited, ConcurrencyLimitingDataSource::getActive)
+                            .description("Connections currently held through the JDBC concurrency limiter")
+                            .tag("name", name)
+                            .register(meters);
+                    Gauge.builder("jdbc.limiter.waiting", limited, ConcurrencyLimitingDataSource::getWaiting)
+                            .description("Callers waiting for a JDBC permit")
+                            .tag("name", name)
+                            .register(meters);
+                }));
+    }
+}
@@ -0,0 +1,37 @@
+package com.service.translations.config;
+
+import com.service.translations.metrics.QueryCounter;
+import org.springframework.boot.task.TaskExecutorBuilder;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.annotation.PreDestroy;
+
+/**
+ * Executor for Spring MVC async work such as streaming response bodies. Tasks are decorated with the
+ * {@link QueryCounter}, so statements a streaming body issues count towards the request that started it.
+ * Pool sizes follow the {@code spring.task.execution.*} properties.
+ */
+@Configuration
+public class WebAsyncConfig implements WebMvcConfigurer {
+
+    private final ThreadPoolTaskExecutor asyncExecutor;
+
+    public WebAsyncConfig(TaskExecutorBuilder builder, QueryCounter queryCounter) {
+        this.asyncExecutor = builder.threadNamePrefix("mvc-async-").build();
+        this.asyncExecutor.setTaskDecorator(queryCounter);
+        this.asyncExecutor.initialize();
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(asyncExecutor);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        asyncExecutor.shutdown();
+    }
+}
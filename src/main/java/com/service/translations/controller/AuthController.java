@@ -1,6 +1,7 @@
 package com.service.translations.controller;
 
 
+import com.service.translations.config.LoginExecutor;
 import com.service.translations.dto.AuthRequestDTO;
 import com.service.translations.dto.AuthResponseDTO;
 import com.service.translations.serviceImplementation.UserDetailsServiceImpl;
@@ -11,6 +12,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -22,6 +24,9 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
 @RestController
 @RequestMapping("/api/auth")
 @Tag(name = "Authentication", description = "Endpoints for user login and JWT token generation")
@@ -36,6 +41,9 @@ public class AuthController {
     @Autowired
     private JwtUtil jwtUtil;
 
+    @Autowired
+    private LoginExecutor loginExecutor;
+
     @Operation(
             summary = "Authenticate user and return JWT token",
             description = "Provide valid username and password to get JWT token for authenticated access",
@@ -65,16 +73,32 @@ public class AuthController {
                     @ApiResponse(
                             responseCode = "404",
                             description = "User not found"
+                    ),
+                    @ApiResponse(
+                            responseCode = "429",
+                            description = "Too many logins in progress; retry after the Retry-After delay"
                     )
             }
     )
     @PostMapping("/login")
-    public ResponseEntity<?> login(@RequestBody AuthRequestDTO request) {
+    public CompletableFuture<ResponseEntity<?>> login(@RequestBody AuthRequestDTO request) {
         // Validate request (e.g., check for missing fields)
         if (request.getUsername() == null || request.getPassword() == null) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Invalid request. Missing username or password.");
+            return CompletableFuture.completedFuture(
+                    ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Invalid request. Missing username or password."));
         }
 
+        // Password hashing runs on the bounded login pool; the request thread is released meanwhile
+        try {
+            return loginExecutor.supply(() -> authenticate(request));
+        } catch (RejectedExecutionException ex) {
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body("Too many login attempts in progress, please retry"));
+        }
+    }
+
+    private ResponseEntity<?> authenticate(AuthRequestDTO request) {
         try {
             // Authenticate user
             authenticationManager.authenticate(
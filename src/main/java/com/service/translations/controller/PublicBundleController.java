@@ -0,0 +1,85 @@
+package com.service.translations.controller;
+
+import com.service.translations.cache.TranslationBundle;
+import com.service.translations.metrics.ExportMetrics;
+import com.service.translations.service.TranslationService;
+import com.service.translations.util.BundleUrlSigner;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Serves bundles at signed, content-addressed URLs without a JWT, so shared caches can hold them.
+ * A URL names one exact bundle version; once the content changes it answers 404 and clients fetch a
+ * fresh URL from {@code /api/translations/export/{locale}/public-url}.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/public/bundles")
+@ConditionalOnProperty(name = "translations.public-bundles.enabled", havingValue = "true")
+@Tag(name = "Public bundles", description = "Signed, cacheable translation bundles for CDNs and browsers")
+public class PublicBundleController {
+
+    private static final Duration MAX_AGE = Duration.ofDays(365);
+
+    private final TranslationService service;
+    private final BundleUrlSigner signer;
+    private final ExportMetrics exportMetrics;
+
+    @GetMapping(value = "/{locale}/{contentId}.json", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "Fetch a bundle through a signed public URL",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Bundle returned, cacheable until the URL expires"),
+                    @ApiResponse(responseCode = "403", description = "Signature is invalid or has expired"),
+                    @ApiResponse(responseCode = "404", description = "The bundle no longer has this content"),
+                    @ApiResponse(responseCode = "500", description = "Internal server error")
+            }
+    )
+    public ResponseEntity<byte[]> bundle(
+            @PathVariable String locale,
+            @Parameter(description = "Content id the URL was signed for") @PathVariable String contentId,
+            @RequestParam(required = false) String tag,
+            @RequestParam long expires,
+            @RequestParam String sig) {
+
+        Instant now = Instant.now();
+        if (!signer.verify(locale, tag, contentId, expires, sig, now)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).cacheControl(CacheControl.noStore()).build();
+        }
+
+        TranslationBundle bundle = service.getBundle(locale, tag);
+        if (bundle.isEmpty() || !bundle.getContentId().equals(contentId)) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).cacheControl(CacheControl.noStore()).build();
+        }
+
+        // The body behind this URL never changes, so it may be cached for as long as the signature holds
+        exportMetrics.rows("public-bundle", locale, tag, bundle.getEntries().size());
+        exportMetrics.bytes("public-bundle", locale, tag, bundle.getJson().length);
+        Duration remaining = Duration.ofSeconds(expires - now.getEpochSecond());
+        CacheControl cacheControl = CacheControl.maxAge(remaining.compareTo(MAX_AGE) < 0 ? remaining : MAX_AGE)
+                .cachePublic();
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue() + ", immutable")
+                .eTag(bundle.getETag())
+                .lastModified(bundle.getLastModified())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(bundle.getJson());
+    }
+}
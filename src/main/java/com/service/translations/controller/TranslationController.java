@@ -1,11 +1,30 @@
     package com.service.translations.controller;
 
+    import com.service.translations.cache.TranslationBundle;
+    import com.service.translations.config.ExportExecutor;
+    import com.service.translations.dto.CursorPageDTO;
+    import com.service.translations.dto.FullTextSearchResultDTO;
     import com.service.translations.dto.FullTranslationExportDTO;
+    import com.service.translations.dto.LocaleCoverageDTO;
+    import com.service.translations.dto.PublicBundleUrlDTO;
+    import com.service.translations.dto.TranslationDeltaDTO;
     import com.service.translations.dto.TranslationExportDTO;
+    import com.service.translations.dto.TranslationExportVersionDTO;
+    import com.service.translations.dto.TranslationImportResultDTO;
+    import com.service.translations.dto.TranslationImportRowDTO;
+    import com.service.translations.dto.TranslationKeyDTO;
     import com.service.translations.dto.TranslationRequestDTO;
+    import com.service.translations.dto.TranslationSearchHitDTO;
     import com.service.translations.entity.Translation;
+    import com.service.translations.exception.CustomException;
     import com.service.translations.exception.ErrorResponse;
+    import com.service.translations.metrics.ExportMetrics;
+    import com.service.translations.service.TranslationCoverageService;
+    import com.service.translations.service.TranslationImportService;
+    import com.service.translations.service.TranslationSearchService;
     import com.service.translations.service.TranslationService;
+    import com.service.translations.util.BundleUrlSigner;
+    import com.service.translations.util.SyncToken;
     import io.swagger.v3.oas.annotations.Operation;
     import io.swagger.v3.oas.annotations.Parameter;
     import io.swagger.v3.oas.annotations.media.Content;
@@ -18,16 +37,23 @@
     import org.springframework.data.domain.Page;
     import org.springframework.data.domain.PageRequest;
     import org.springframework.data.domain.Pageable;
+    import org.springframework.data.domain.Slice;
     import org.springframework.data.domain.Sort;
     import org.springframework.http.CacheControl;
+    import org.springframework.http.HttpStatus;
     import org.springframework.http.MediaType;
     import org.springframework.http.ResponseEntity;
     import org.springframework.validation.annotation.Validated;
     import org.springframework.web.bind.annotation.*;
+    import org.springframework.web.context.request.WebRequest;
+    import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 
     import javax.servlet.http.HttpServletResponse;
+    import java.time.Instant;
+    import java.time.ZoneId;
     import java.util.HashMap;
+    import java.util.List;
     import java.util.Map;
     import java.util.concurrent.CompletableFuture;
     import java.util.concurrent.TimeUnit;
@@ -39,7 +65,15 @@
     @Tag(name = "Translation API", description = "API for managing multilingual translations with context tags")
     public class TranslationController {
 
+        private static final String SYNC_TOKEN_HEADER = "X-Sync-Token";
+
         private final TranslationService service;
+        private final TranslationImportService importService;
+        private final TranslationSearchService searchService;
+        private final TranslationCoverageService coverageService;
+        private final BundleUrlSigner bundleUrlSigner;
+        private final ExportExecutor exportExecutor;
+        private final ExportMetrics exportMetrics;
 
         @Operation(summary = "Create a new translation")
         @ApiResponses(value = {
@@ -58,6 +92,46 @@
             return ResponseEntity.status(201).body(service.create(req));
         }
 
+        @Operation(summary = "Bulk import translations from a JSON array",
+                description = "Rows are written in JDBC batches; rejected rows are reported without aborting the import")
+        @ApiResponses(value = {
+                @ApiResponse(responseCode = "200", description = "Import processed; see per-row errors"),
+                @ApiResponse(responseCode = "400", description = "Bad Request - Empty or oversized import",
+                        content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                @ApiResponse(responseCode = "401", description = "Unauthorized",
+                        content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                @ApiResponse(responseCode = "500", description = "Internal server error",
+                        content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+        })
+        @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+        public ResponseEntity<TranslationImportResultDTO> importJson(
+                @RequestBody List<TranslationImportRowDTO> rows,
+                @Parameter(description = "Overwrite the content of existing keys instead of rejecting them")
+                @RequestParam(defaultValue = "false") boolean upsert
+        ) {
+            return ResponseEntity.ok(importService.importRows(rows, upsert));
+        }
+
+        @Operation(summary = "Bulk import translations from CSV",
+                description = "Expects a header row with the columns key, locale, tag and content")
+        @ApiResponses(value = {
+                @ApiResponse(responseCode = "200", description = "Import processed; see per-row errors"),
+                @ApiResponse(responseCode = "400", description = "Bad Request - Malformed, empty or oversized CSV",
+                        content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                @ApiResponse(responseCode = "401", description = "Unauthorized",
+                        content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                @ApiResponse(responseCode = "500", description = "Internal server error",
+                        content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+        })
+        @PostMapping(value = "/import", consumes = "text/csv")
+        public ResponseEntity<TranslationImportResultDTO> importCsv(
+                @RequestBody String csv,
+                @Parameter(description = "Overwrite the content of existing keys instead of rejecting them")
+                @RequestParam(defaultValue = "false") boolean upsert
+        ) {
+            return ResponseEntity.ok(importService.importCsv(csv, upsert));
+        }
+
         @Operation(summary = "Search translations by key, tag, or content")
         @ApiResponses(value = {
                 @ApiResponse(responseCode = "200", description = "Search completed successfully"),
@@ -88,11 +162,230 @@
             return ResponseEntity.ok(result);
         }
 
+        @Operation(summary = "Search translations as flat rows",
+                description = "Same filters as /search, projected into id, key, content, localeCode, tagName and "
+                        + "updatedAt with one joined query; withCount=false skips the count query and returns a slice")
+        @ApiResponses(value = {
+                @ApiResponse(responseCode = "200", description = "Search completed successfully"),
+                @ApiResponse(responseCode = "400", description = "Bad Request - Invalid query parameters"),
+                @ApiResponse(responseCode = "401", description = "Unauthorized - Authentication required"),
+                @ApiResponse(responseCode = "500", description = "Internal Server Error")
+        })
+        @GetMapping("/search/flat")
+        public ResponseEntity<Slice<FullTranslationExportDTO>> searchFlat(
+                @Parameter(description = "Search by translation key")
+                @RequestParam(required = false) String key,
+
+                @Parameter(description = "Search by context tag (e.g., mobile, desktop)")
+                @RequestParam(required = false) String tag,
+
+                @Parameter(description = "Search by translation content")
+                @RequestParam(required = false) String content,
+
+                @Parameter(description = "Page number (starting from 0)", required = true)
+                @RequestParam int page,
+
+                @Parameter(description = "Number of records per page", required = true)
+                @RequestParam int size,
+
+                @Parameter(description = "Whether to compute totalElements and totalPages")
+                @RequestParam(defaultValue = "true") boolean withCount
+        ) {
+            Pageable pageable = PageRequest.of(page, size, Sort.by("updatedAt").descending());
+            return ResponseEntity.ok(service.searchFlat(key, tag, content, pageable, withCount));
+        }
+
+        @Operation(summary = "Full-text search over translation keys and content within one locale",
+                description = "Supports prefix (welc*), phrase (\"welcome back\"), OR (a | b) and NOT (-a) queries; "
+                        + "results are ranked by relevance")
+        @ApiResponses(value = {
+                @ApiResponse(responseCode = "200", description = "Search completed successfully"),
+                @ApiResponse(responseCode = "400", description = "Bad Request - Missing query, unknown locale or invalid page",
+                        content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                @ApiResponse(responseCode = "401", description = "Unauthorized - Authentication required"),
+                @ApiResponse(responseCode = "500", description = "Internal Server Error")
+        })
+        @GetMapping("/search/fulltext")
+        public ResponseEntity<FullTextSearchResultDTO> searchFullText(
+                @Parameter(description = "Locale to search in (e.g., en, fr)", required = true)
+                @RequestParam String locale,
+
+                @Parameter(description = "Search query", required = true)
+                @RequestParam String q,
+
+                @Parameter(description = "Restrict results to a context tag")
+                @RequestParam(required = false) String tag,
+
+                @Parameter(description = "Page number (starting from 0)")
+                @RequestParam(defaultValue = "0") int page,
+
+                @Parameter(description = "Number of hits per page")
+                @RequestParam(defaultValue = "20") int size
+        ) {
+            return ResponseEntity.ok(searchService.fullText(locale, q, tag, page, size));
+        }
+
+        @Operation(summary = "Find translation keys by prefix or glob pattern within one locale",
+                description = "A pattern without wildcards is a prefix (checkout.payment.); * matches any run of "
+                        + "characters and ? a single one (checkout.*.title). Keys are returned in sorted order")
+        @ApiResponses(value = {
+                @ApiResponse(responseCode = "200", description = "Keys returned successfully"),
+                @ApiResponse(responseCode = "400", description = "Bad Request - Unknown locale or invalid page size",
+                        content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                @ApiResponse(responseCode = "401", description = "Unauthorized - Authentication required"),
+                @ApiResponse(responseCode = "500", description = "Internal Server Error")
+        })
+        @GetMapping("/search/keys")
+        public ResponseEntity<CursorPageDTO<TranslationKeyDTO>> searchKeys(
+                @Parameter(description = "Locale to search in (e.g., en, fr)", required = true)
+                @RequestParam String locale,
+
+                @Parameter(description = "Key prefix or glob pattern; omit to list all keys")
+                @RequestParam(required = false) String pattern,
+
+                @Parameter(description = "Only keys present under this context tag")
+                @RequestParam(required = false) String tag,
+
+                @Parameter(description = "nextCursor of the previous page; omit for the first page")
+                @RequestParam(required = false) String cursor,
+
+                @Parameter(description = "Number of keys per page")
+                @RequestParam(defaultValue = "100") int size
+        ) {
+            return ResponseEntity.ok(searchService.keys(locale, pattern, tag, cursor, size));
+        }
+
+        @Operation(summary = "Fuzzy search over translation keys and content within one locale",
+                description = "Ranks translations by trigram similarity, so typos and punctuation variants still match")
+        @ApiResponses(value = {
+                @ApiResponse(responseCode = "200", description = "Search completed successfully"),
+                @ApiResponse(responseCode = "400", description = "Bad Request - Missing query, unknown locale or invalid bounds",
+                        content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                @ApiResponse(responseCode = "401", description = "Unauthorized - Authentication required"),
+                @ApiResponse(responseCode = "500", description = "Internal Server Error")
+        })
+        @GetMapping("/search/fuzzy")
+        public ResponseEntity<List<TranslationSearchHitDTO>> searchFuzzy(
+                @Parameter(description = "Locale to search in (e.g., en, fr)", required = true)
+                @RequestParam String locale,
+
+                @Parameter(description = "Text to match against keys and content", required = true)
+                @RequestParam String q,
+
+                @Parameter(description = "Minimum similarity between 0 and 1")
+                @RequestParam(defaultValue = "0.3") double threshold,
+
+                @Parameter(description = "Maximum number of results")
+                @RequestParam(defaultValue = "20") int limit
+        ) {
+            return ResponseEntity.ok(searchService.fuzzy(locale, q, threshold, limit));
+        }
+
+        @Operation(summary = "Find existing translations similar to a prospective one",
+                description = "Run before create to catch near-duplicate keys or content in the same locale")
+        @ApiResponses(value = {
+                @ApiResponse(responseCode = "200", description = "Similar translations returned successfully"),
+                @ApiResponse(responseCode = "400", description = "Bad Request - Missing key and content, unknown locale or invalid bounds",
+                        content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                @ApiResponse(responseCode = "401", description = "Unauthorized - Authentication required"),
+                @ApiResponse(responseCode = "500", description = "Internal Server Error")
+        })
+        @GetMapping("/similar")
+        public ResponseEntity<List<TranslationSearchHitDTO>> findSimilar(
+                @Parameter(description = "Locale of the prospective translation", required = true)
+                @RequestParam String locale,
+
+                @Parameter(description = "Prospective translation key")
+                @RequestParam(required = false) String key,
+
+                @Parameter(description = "Prospective translation content")
+                @RequestParam(required = false) String content,
+
+                @Parameter(description = "Minimum similarity between 0 and 1")
+                @RequestParam(defaultValue = "0.6") double threshold,
+
+                @Parameter(description = "Maximum number of results")
+                @RequestParam(defaultValue = "10") int limit
+        ) {
+            return ResponseEntity.ok(searchService.similar(locale, key, content, threshold, limit));
+        }
+
+        @Operation(summary = "Translation completeness of every locale against the reference locale",
+                description = "Counts are kept up to date on every write; pass a tag to restrict to one context")
+        @ApiResponses(value = {
+                @ApiResponse(responseCode = "200", description = "Coverage returned successfully"),
+                @ApiResponse(responseCode = "400", description = "Bad Request - Unknown tag",
+                        content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                @ApiResponse(responseCode = "401", description = "Unauthorized - Authentication required"),
+                @ApiResponse(responseCode = "500", description = "Internal Server Error")
+        })
+        @GetMapping("/coverage")
+        public ResponseEntity<List<LocaleCoverageDTO>> coverage(
+                @Parameter(description = "Restrict to a context tag")
+                @RequestParam(required = false) String tag
+        ) {
+            return ResponseEntity.ok(coverageService.coverage(tag));
+        }
+
+        @Operation(summary = "Keys present in the reference locale but missing from a locale")
+        @ApiResponses(value = {
+                @ApiResponse(responseCode = "200", description = "Missing keys returned successfully"),
+                @ApiResponse(responseCode = "400", description = "Bad Request - Unknown locale or tag, or invalid page size",
+                        content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                @ApiResponse(responseCode = "401", description = "Unauthorized - Authentication required"),
+                @ApiResponse(responseCode = "500", description = "Internal Server Error")
+        })
+        @GetMapping("/coverage/missing")
+        public ResponseEntity<CursorPageDTO<TranslationKeyDTO>> missingKeys(
+                @Parameter(description = "Locale to check (e.g., fr)", required = true)
+                @RequestParam String locale,
+
+                @Parameter(description = "Restrict to a context tag")
+                @RequestParam(required = false) String tag,
+
+                @Parameter(description = "nextCursor of the previous page; omit for the first page")
+                @RequestParam(required = false) String cursor,
+
+                @Parameter(description = "Number of keys per page")
+                @RequestParam(defaultValue = "100") int size
+        ) {
+            return ResponseEntity.ok(coverageService.missingKeys(locale, tag, cursor, size));
+        }
+
+        @Operation(summary = "Search translations page by page using a continuation cursor instead of page numbers")
+        @ApiResponses(value = {
+                @ApiResponse(responseCode = "200", description = "Search completed successfully"),
+                @ApiResponse(responseCode = "400", description = "Bad Request - Invalid cursor or page size"),
+                @ApiResponse(responseCode = "401", description = "Unauthorized - Authentication required"),
+                @ApiResponse(responseCode = "500", description = "Internal Server Error")
+        })
+        @GetMapping("/search/cursor")
+        public ResponseEntity<CursorPageDTO<FullTranslationExportDTO>> searchAfter(
+                @Parameter(description = "Search by translation key")
+                @RequestParam(required = false) String key,
+
+                @Parameter(description = "Search by context tag (e.g., mobile, desktop)")
+                @RequestParam(required = false) String tag,
+
+                @Parameter(description = "Search by translation content")
+                @RequestParam(required = false) String content,
+
+                @Parameter(description = "nextCursor of the previous page; omit for the first page")
+                @RequestParam(required = false) String cursor,
+
+                @Parameter(description = "Number of records per page")
+                @RequestParam(defaultValue = "100") int size
+        ) {
+            return ResponseEntity.ok(service.searchAfter(key, tag, content, cursor, size));
+        }
+
         @Operation(summary = "get all transactions, endpoint for fetching huge data ")
         @ApiResponses(value = {
                 @ApiResponse(responseCode = "200", description = "All translations exported successfully"),
                 @ApiResponse(responseCode = "404", description = "No translations found"),
-                @ApiResponse(responseCode = "500", description = "Internal server error")
+                @ApiResponse(responseCode = "429", description = "Too Many Requests - The export pool is saturated"),
+                @ApiResponse(responseCode = "500", description = "Internal server error"),
+                @ApiResponse(responseCode = "503", description = "Service Unavailable - The export timed out")
         })
         // In TranslationController.java
         @GetMapping(value = "/export", produces = MediaType.APPLICATION_JSON_VALUE)
@@ -100,10 +393,11 @@
                 @RequestParam(defaultValue = "0") int page,
                 @RequestParam(defaultValue = "10000") int size) {
 
-            return CompletableFuture.supplyAsync(() -> {
+            return exportExecutor.supply(() -> {
                 long startTime = System.currentTimeMillis();
                 Pageable pageable = PageRequest.of(page, size);
                 Page<FullTranslationExportDTO> resultPage = service.exportAll(pageable);
+                exportMetrics.rows("export", null, null, resultPage.getNumberOfElements());
 
                 Map<String, Object> responseBody = new HashMap<>();
                 responseBody.put("translations", resultPage.getContent());
@@ -119,9 +413,51 @@
                         .body(responseBody);
             });
         }
+        @Operation(summary = "Export all translations page by page using a continuation cursor, without a count query")
+        @ApiResponses(value = {
+                @ApiResponse(responseCode = "200", description = "Translations exported successfully"),
+                @ApiResponse(responseCode = "400", description = "Bad Request - Invalid cursor or page size"),
+                @ApiResponse(responseCode = "401", description = "Unauthorized - Authentication required"),
+                @ApiResponse(responseCode = "500", description = "Internal server error")
+        })
+        @GetMapping(value = "/export/cursor", produces = MediaType.APPLICATION_JSON_VALUE)
+        public ResponseEntity<CursorPageDTO<FullTranslationExportDTO>> exportAllAfter(
+                @Parameter(description = "nextCursor of the previous page; omit for the first page")
+                @RequestParam(required = false) String cursor,
+                @RequestParam(defaultValue = "1000") int size) {
+
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.noCache())
+                    .body(service.exportAllAfter(cursor, size));
+        }
+
+        @Operation(summary = "Stream all translations as JSON, optionally for a single locale, in constant memory")
+        @ApiResponses(value = {
+                @ApiResponse(responseCode = "200", description = "Translations streamed successfully"),
+                @ApiResponse(responseCode = "401", description = "Unauthorized - Authentication required"),
+                @ApiResponse(responseCode = "500", description = "Internal server error")
+        })
+        @GetMapping(value = "/export/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+        public ResponseEntity<StreamingResponseBody> exportStream(
+                @Parameter(description = "Restrict the export to one locale code")
+                @RequestParam(required = false) String locale) {
+
+            StreamingResponseBody body = out -> {
+                ExportMetrics.CountingOutputStream counted = new ExportMetrics.CountingOutputStream(out);
+                long rows = service.streamAll(locale, counted);
+                exportMetrics.rows("stream", locale, null, rows);
+                exportMetrics.bytes("stream", locale, null, counted.getCount());
+            };
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.noCache())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(body);
+        }
+
         @Operation(summary = "Export translations in JSON format for locale and tag")
         @ApiResponses(value = {
                 @ApiResponse(responseCode = "200", description = "JSON export returned successfully"),
+                @ApiResponse(responseCode = "304", description = "Not Modified - The client's cached copy is current"),
                 @ApiResponse(responseCode = "400", description = "Bad Request - Missing or invalid locale"),
                 @ApiResponse(responseCode = "401", description = "Unauthorized - Authentication required"),
                 @ApiResponse(responseCode = "403", description = "Forbidden - Access denied"),
@@ -132,12 +468,28 @@
                 @RequestParam String locale,
                 @RequestParam(required = false) String tag,
                 @RequestParam(defaultValue = "0") int page,
-                @RequestParam(defaultValue = "10") int size) {
+                @RequestParam(defaultValue = "10") int size,
+                WebRequest request) {
 
             long startTime = System.currentTimeMillis();
 
+            // Pages are ordered by updatedAt, so an update that keeps the content can still move rows between
+            // pages; the validator changes on every write. It is read before the page, so it never runs ahead of it
+            TranslationExportVersionDTO version = service.exportVersion(locale, tag);
+            Instant lastModified = version.getLastModified() != null
+                    ? version.getLastModified().atZone(ZoneId.systemDefault()).toInstant()
+                    : Instant.EPOCH;
+            String eTag = "W/\"" + version.getTotalItems() + "-" + lastModified.getEpochSecond() + "."
+                    + lastModified.getNano() + "-" + page + "-" + size + "\"";
+            if (version.getTotalItems() > 0 && request.checkNotModified(eTag, lastModified.toEpochMilli())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .cacheControl(CacheControl.noCache())
+                        .build();
+            }
+
             Pageable pageable = PageRequest.of(page, size);
             Page<TranslationExportDTO> resultPage = service.exportJson(locale, tag, pageable);
+            exportMetrics.rows("page", locale, tag, resultPage.getNumberOfElements());
 
             Map<String, Object> response = new HashMap<>();
             response.put("data", resultPage.getContent().stream()
@@ -149,30 +501,101 @@
 
             return ResponseEntity.ok()
                     .cacheControl(CacheControl.noCache())
+                    .eTag(eTag)
+                    .lastModified(lastModified)
                     .body(response);
         }
         @Operation(summary = "Export translations in JSON format to supply translations for frontend applications like\n" +
                 " Vue.js ")
         @ApiResponses(value = {
                 @ApiResponse(responseCode = "200", description = "JSON export returned successfully"),
+                @ApiResponse(responseCode = "304", description = "Not Modified - The client's cached copy is current"),
                 @ApiResponse(responseCode = "400", description = "Bad Request - Missing or invalid locale"),
                 @ApiResponse(responseCode = "401", description = "Unauthorized - Authentication required"),
                 @ApiResponse(responseCode = "403", description = "Forbidden - Access denied"),
                 @ApiResponse(responseCode = "500", description = "Internal Server Error")
         })
         @GetMapping(value = "/export/{locale}.json", produces = MediaType.APPLICATION_JSON_VALUE)
-        public ResponseEntity<Map<String, String>> exportFull(
+        public ResponseEntity<byte[]> exportFull(
+                @PathVariable String locale,
+                @RequestParam(required = false) String tag,
+                WebRequest request) {
+
+            TranslationBundle bundle = service.getBundle(locale, tag);
+            if (bundle.isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
+
+            CacheControl cacheControl = CacheControl.maxAge(6, TimeUnit.HOURS);
+            if (request.checkNotModified(bundle.getETag(), bundle.getLastModified().toEpochMilli())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .cacheControl(cacheControl)
+                        .build();
+            }
+
+            // Serve the pre-serialized bundle body as-is
+            exportMetrics.rows("bundle", locale, tag, bundle.getEntries().size());
+            exportMetrics.bytes("bundle", locale, tag, bundle.getJson().length);
+            return ResponseEntity.ok()
+                    .cacheControl(cacheControl)
+                    .eTag(bundle.getETag())
+                    .lastModified(bundle.getLastModified())
+                    .header(SYNC_TOKEN_HEADER, SyncToken.encode(bundle.getLastModified()))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(bundle.getJson());
+        }
+
+
+        @Operation(summary = "Get a signed public URL for a locale bundle",
+                description = "The URL is content-addressed and can be fetched without a token until it expires; "
+                        + "it stops resolving as soon as the bundle changes")
+        @ApiResponses(value = {
+                @ApiResponse(responseCode = "200", description = "Signed URL returned successfully"),
+                @ApiResponse(responseCode = "400", description = "Bad Request - Public bundle URLs are disabled"),
+                @ApiResponse(responseCode = "401", description = "Unauthorized - Authentication required"),
+                @ApiResponse(responseCode = "404", description = "Not Found - The bundle is empty"),
+                @ApiResponse(responseCode = "500", description = "Internal Server Error")
+        })
+        @GetMapping(value = "/export/{locale}/public-url", produces = MediaType.APPLICATION_JSON_VALUE)
+        public ResponseEntity<PublicBundleUrlDTO> exportPublicUrl(
                 @PathVariable String locale,
                 @RequestParam(required = false) String tag) {
 
-            Map<String, String> translations = service.exportBundle(locale, tag);
-            if (translations.isEmpty()) {
+            if (!bundleUrlSigner.isEnabled()) {
+                throw new CustomException("Public bundle URLs are disabled");
+            }
+            TranslationBundle bundle = service.getBundle(locale, tag);
+            if (bundle.isEmpty()) {
                 return ResponseEntity.notFound().build();
             }
 
+            Instant expiresAt = bundleUrlSigner.expiry(Instant.now());
+            String url = bundleUrlSigner.url(locale, tag, bundle.getContentId(), expiresAt.getEpochSecond());
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.noCache())
+                    .body(new PublicBundleUrlDTO(url, bundle.getContentId(), expiresAt));
+        }
+
+
+        @Operation(summary = "Export only the keys changed since a sync token",
+                description = "Pass the X-Sync-Token of a full bundle, or the 'next' token of a previous delta, as 'since'. "
+                        + "A token older than the tombstone retention gets reset=true, with the whole bundle as upserts "
+                        + "to replace the client's copy")
+        @ApiResponses(value = {
+                @ApiResponse(responseCode = "200", description = "Delta returned successfully"),
+                @ApiResponse(responseCode = "400", description = "Bad Request - Invalid sync token"),
+                @ApiResponse(responseCode = "401", description = "Unauthorized - Authentication required"),
+                @ApiResponse(responseCode = "500", description = "Internal Server Error")
+        })
+        @GetMapping(value = "/export/{locale}.json", params = "since", produces = MediaType.APPLICATION_JSON_VALUE)
+        public ResponseEntity<TranslationDeltaDTO> exportDelta(
+                @PathVariable String locale,
+                @RequestParam(required = false) String tag,
+                @Parameter(description = "Sync token from a previous export") @RequestParam String since) {
+
             return ResponseEntity.ok()
-                    .cacheControl(CacheControl.maxAge(6, TimeUnit.HOURS))
-                    .body(translations);
+                    .cacheControl(CacheControl.noCache())
+                    .body(service.exportDelta(locale, tag, since));
         }
 
 
@@ -0,0 +1,19 @@
+package com.service.translations.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FullTextSearchResultDTO {
+    private long totalHits;
+    // Hit counting stops early past a threshold, in which case totalHits is a lower bound
+    private boolean totalHitsExact;
+    private int page;
+    private int size;
+    private List<TranslationSearchHitDTO> hits;
+}
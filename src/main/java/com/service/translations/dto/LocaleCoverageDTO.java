@@ -0,0 +1,18 @@
+package com.service.translations.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LocaleCoverageDTO {
+    private String locale;
+    private String tag;
+    private String referenceLocale;
+    private long referenceKeys;
+    private long translatedKeys;
+    private long missingKeys;
+    private double completeness;
+}
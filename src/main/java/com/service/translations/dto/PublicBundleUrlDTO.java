@@ -0,0 +1,16 @@
+package com.service.translations.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PublicBundleUrlDTO {
+    private String url;
+    private String contentId;
+    private Instant expiresAt;
+}
@@ -0,0 +1,19 @@
+package com.service.translations.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TranslationDeltaDTO {
+    private Map<String, String> upserts;
+    private List<String> deletes;
+    private String next;
+    // The token predates tombstone retention: upserts hold the whole bundle and replace the client's copy
+    private boolean reset;
+}
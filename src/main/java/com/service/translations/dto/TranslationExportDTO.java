@@ -4,12 +4,17 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class TranslationExportDTO {
     private String key;
     private String content;
+    private LocalDateTime updatedAt;
 
-
+    public TranslationExportDTO(String key, String content) {
+        this(key, content, null);
+    }
 }
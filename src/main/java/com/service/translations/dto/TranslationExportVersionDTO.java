@@ -0,0 +1,19 @@
+package com.service.translations.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Row count and newest change of a locale's export, optionally for one tag. Every write changes one of
+ * the two: inserts and updates move the newest change forward, deletes lower the count and leave a tombstone.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TranslationExportVersionDTO {
+    private long totalItems;
+    private LocalDateTime lastModified;
+}
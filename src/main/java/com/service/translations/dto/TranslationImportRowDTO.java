@@ -0,0 +1,15 @@
+package com.service.translations.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TranslationImportRowDTO {
+    private String key;
+    private String locale;
+    private String tag;
+    private String content;
+}
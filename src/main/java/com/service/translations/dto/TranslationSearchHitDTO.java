@@ -0,0 +1,20 @@
+package com.service.translations.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TranslationSearchHitDTO {
+    private Long id;
+    private String localeCode;
+    private String key;
+    private String content;
+    private String tagName;
+    private LocalDateTime updatedAt;
+    private float score;
+}
@@ -14,6 +14,9 @@ import java.time.LocalDateTime;
         @Index(name = "idx_translation_content", columnList = "content"),
         @Index(name = "idx_locale_updated", columnList = "locale_id,updatedAt"), // Add this
         @Index(name = "idx_export_all", columnList = "updatedAt") // Add this
+}, uniqueConstraints = {
+        // Keys are stored trimmed and lower-cased, so this is the case-insensitive uniqueness rule
+        @UniqueConstraint(name = Translation.UNIQUE_SLOT, columnNames = {"key", "locale_id", "tag_id"})
 })
 @Data
 @NoArgsConstructor
@@ -23,7 +26,14 @@ import java.time.LocalDateTime;
 
 public class Translation {
 
-    @Id @GeneratedValue
+    public static final String UNIQUE_SLOT = "uk_translation_key_locale_tag";
+    public static final String ID_SEQUENCE = "translation_seq";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    // Pooled sequence: one round trip hands out 50 ids, which keeps batched inserts batched
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_SEQUENCE)
+    @SequenceGenerator(name = ID_SEQUENCE, sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @NotBlank
@@ -0,0 +1,43 @@
+package com.service.translations.entity;
+
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Export read model: one row per translation with its locale code and tag name inline, so export
+ * queries scan a single index instead of joining {@code locale} and {@code tags}. Written in the same
+ * transaction as the translation it copies.
+ */
+@Entity
+@Table(name = "translation_export", indexes = {
+        @Index(name = "idx_export_locale_updated", columnList = "localeCode,updatedAt"),
+        @Index(name = "idx_export_locale_tag_updated", columnList = "localeCode,tagName,updatedAt"),
+        @Index(name = "idx_export_updated", columnList = "updatedAt,translationId")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_export_locale_tag_key", columnNames = {"localeCode", "tagName", "key"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TranslationExport {
+
+    // The id of the translation this row copies
+    @Id
+    private Long translationId;
+
+    @Column(nullable = false)
+    private String localeCode;
+
+    private String tagName;
+
+    @Column(name = "`key`", nullable = false)
+    private String key;
+
+    @Column(nullable = false)
+    private String content;
+
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,37 @@
+package com.service.translations.entity;
+
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Records a key that left a (locale, tag) bundle, either by delete or by an update that moved it,
+ * so delta sync clients can drop it.
+ */
+@Entity
+@Table(name = "translation_tombstones", indexes = {
+        @Index(name = "idx_tombstone_locale_deleted", columnList = "localeCode,deletedAt")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TranslationTombstone {
+
+    @Id @GeneratedValue
+    private Long id;
+
+    private Long translationId;
+
+    @Column(name = "`key`", nullable = false)
+    private String key;
+
+    @Column(nullable = false)
+    private String localeCode;
+
+    private String tagName;
+
+    @Column(nullable = false)
+    private LocalDateTime deletedAt;
+}
@@ -1,6 +1,7 @@
 package com.service.translations.entity;
 
 
+import com.service.translations.cache.PrincipalCacheEvictionListener;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
@@ -12,6 +13,7 @@ import javax.persistence.*;
 @Setter
 @AllArgsConstructor
 @Entity
+@EntityListeners(PrincipalCacheEvictionListener.class)
 @Table(name = "`user`")
 public class User {
 
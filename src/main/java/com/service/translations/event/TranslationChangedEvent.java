@@ -0,0 +1,29 @@
+package com.service.translations.event;
+
+import com.service.translations.dto.FullTranslationExportDTO;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published by the translation service whenever a row is created, updated or deleted.
+ * {@code before} is null for creates and {@code after} is null for deletes.
+ */
+@Getter
+@AllArgsConstructor
+public class TranslationChangedEvent {
+
+    private final FullTranslationExportDTO before;
+    private final FullTranslationExportDTO after;
+
+    public static TranslationChangedEvent created(FullTranslationExportDTO after) {
+        return new TranslationChangedEvent(null, after);
+    }
+
+    public static TranslationChangedEvent updated(FullTranslationExportDTO before, FullTranslationExportDTO after) {
+        return new TranslationChangedEvent(before, after);
+    }
+
+    public static TranslationChangedEvent deleted(FullTranslationExportDTO before) {
+        return new TranslationChangedEvent(before, null);
+    }
+}
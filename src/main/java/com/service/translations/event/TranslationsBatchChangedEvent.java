@@ -0,0 +1,16 @@
+package com.service.translations.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Published once per committed chunk of a bulk write instead of one {@link TranslationChangedEvent} per row.
+ */
+@Getter
+@AllArgsConstructor
+public class TranslationsBatchChangedEvent {
+
+    private final List<TranslationChangedEvent> changes;
+}
@@ -0,0 +1,18 @@
+package com.service.translations.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Set;
+
+/**
+ * Published after translations of these locales were written in bulk outside the services, for example
+ * by the data seeder, or after a locale or tag they carry was renamed. No per-row events were published
+ * for them, so state derived from those locales is rebuilt from the database.
+ */
+@Getter
+@AllArgsConstructor
+public class TranslationsReloadedEvent {
+
+    private final Set<String> locales;
+}
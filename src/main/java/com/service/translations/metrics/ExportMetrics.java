@@ -0,0 +1,91 @@
+package com.service.translations.metrics;
+
+import com.service.translations.cache.LocaleTagDictionary;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Size of what each export endpoint returns: {@code translations.export.rows} and
+ * {@code translations.export.bytes}, tagged by endpoint, locale and tag.
+ * <p>
+ * Locale and tag values are only used as tags when they exist, so arbitrary request parameters
+ * cannot grow the number of series; anything else is reported as {@code unknown}.
+ */
+@Component
+public class ExportMetrics {
+
+    private static final String ALL = "all";
+    private static final String UNKNOWN = "unknown";
+
+    private final MeterRegistry registry;
+    private final LocaleTagDictionary dictionary;
+
+    public ExportMetrics(MeterRegistry registry, LocaleTagDictionary dictionary) {
+        this.registry = registry;
+        this.dictionary = dictionary;
+    }
+
+    public void rows(String endpoint, String locale, String tag, long rows) {
+        DistributionSummary.builder("translations.export.rows")
+                .description("Rows returned per export")
+                .baseUnit("rows")
+                .tags("endpoint", endpoint, "locale", localeTag(locale), "tag", tagTag(tag))
+                .register(registry)
+                .record(rows);
+    }
+
+    public void bytes(String endpoint, String locale, String tag, long bytes) {
+        DistributionSummary.builder("translations.export.bytes")
+                .description("Serialized JSON bytes per export, before compression")
+                .baseUnit("bytes")
+                .tags("endpoint", endpoint, "locale", localeTag(locale), "tag", tagTag(tag))
+                .register(registry)
+                .record(bytes);
+    }
+
+    private String localeTag(String locale) {
+        if (locale == null || locale.isEmpty()) {
+            return ALL;
+        }
+        return dictionary.locale(locale).isPresent() ? locale : UNKNOWN;
+    }
+
+    private String tagTag(String tag) {
+        if (tag == null || tag.isEmpty()) {
+            return ALL;
+        }
+        return dictionary.tag(tag).isPresent() ? tag : UNKNOWN;
+    }
+
+    /**
+     * Pass-through stream that counts the bytes written to it, for exports serialized straight to the response.
+     */
+    public static final class CountingOutputStream extends FilterOutputStream {
+        private long count;
+
+        public CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+
+        public long getCount() {
+            return count;
+        }
+    }
+}
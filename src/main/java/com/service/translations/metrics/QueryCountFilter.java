@@ -0,0 +1,81 @@
+package com.service.translations.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Records how many SQL statements each request issued, as {@code translations.db.queries} tagged by
+ * method and URI template. Asynchronous requests are recorded when they complete, including the
+ * statements of work that joined their count on other threads.
+ */
+@Component
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    private final QueryCounter queryCounter;
+    private final MeterRegistry registry;
+
+    public QueryCountFilter(QueryCounter queryCounter, MeterRegistry registry) {
+        this.queryCounter = queryCounter;
+        this.registry = registry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        AtomicInteger queries = queryCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            queryCounter.stop();
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        record(request, queries.get());
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+                });
+            } else {
+                record(request, queries.get());
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, int queries) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        // Requests that matched no handler would otherwise add one series per raw path
+        if (pattern == null) {
+            return;
+        }
+        DistributionSummary.builder("translations.db.queries")
+                .description("SQL statements issued per request")
+                .baseUnit("queries")
+                .tag("method", request.getMethod())
+                .tag("uri", pattern.toString())
+                .register(registry)
+                .record(queries);
+    }
+}
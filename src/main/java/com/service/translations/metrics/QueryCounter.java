@@ -0,0 +1,72 @@
+package com.service.translations.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Counts the SQL statements Hibernate prepares for the current request.
+ * <p>
+ * A count is opened on the request thread by {@link #start()}; work handed to another thread joins
+ * it through {@link #propagate(Supplier)}, or through {@link #decorate(Runnable)} as the decorator of the
+ * MVC async executor (which runs streaming response bodies, see
+ * {@link com.service.translations.config.WebAsyncConfig}). Statements outside any count pass through uncounted.
+ */
+public class QueryCounter implements StatementInspector, TaskDecorator {
+
+    private final ThreadLocal<AtomicInteger> current = new ThreadLocal<>();
+
+    public AtomicInteger start() {
+        AtomicInteger count = new AtomicInteger();
+        current.set(count);
+        return count;
+    }
+
+    public void stop() {
+        current.remove();
+    }
+
+    public <T> Supplier<T> propagate(Supplier<T> task) {
+        AtomicInteger count = current.get();
+        if (count == null) {
+            return task;
+        }
+        return () -> {
+            AtomicInteger previous = current.get();
+            current.set(count);
+            try {
+                return task.get();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    @Override
+    public Runnable decorate(Runnable task) {
+        Supplier<Void> wrapped = propagate(() -> {
+            task.run();
+            return null;
+        });
+        return wrapped::get;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        AtomicInteger count = current.get();
+        if (count != null) {
+            count.incrementAndGet();
+        }
+        return sql;
+    }
+
+    private void restore(AtomicInteger previous) {
+        if (previous == null) {
+            current.remove();
+        } else {
+            current.set(previous);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.service.translations.repository;
+
+import com.service.translations.dto.FullTranslationExportDTO;
+import com.service.translations.entity.TranslationExport;
+import com.service.translations.event.TranslationChangedEvent;
+import com.service.translations.event.TranslationsBatchChangedEvent;
+import com.service.translations.event.TranslationsReloadedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps the {@link TranslationExport} read model in step with {@code translations}.
+ * <p>
+ * Row changes are applied as translation events are published, inside the writing transaction, so
+ * the read model commits or rolls back with the write. Bulk loads that bypass the services have their
+ * locales copied over from the normalized tables, and a read model whose row count, id sum or newest
+ * edit does not match at startup is rebuilt the same way.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TranslationExportProjection {
+
+    private static final String UPSERT = "merge into translation_export "
+            + "(translation_id, locale_code, tag_name, \"key\", content, updated_at) key (translation_id) "
+            + "values (?, ?, ?, ?, ?, ?)";
+    private static final String DELETE = "delete from translation_export where translation_id = ?";
+    private static final String COPY = "insert into translation_export "
+            + "(translation_id, locale_code, tag_name, \"key\", content, updated_at) "
+            + "select t.id, l.code, g.name, t.\"key\", t.content, t.updated_at from translations t "
+            + "join locale l on l.id = t.locale_id left join tags g on g.id = t.tag_id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @EventListener
+    public void onTranslationChanged(TranslationChangedEvent event) {
+        apply(List.of(event));
+    }
+
+    @EventListener
+    public void onTranslationsBatchChanged(TranslationsBatchChangedEvent event) {
+        apply(event.getChanges());
+    }
+
+    // Ordered ahead of the index rebuilds the same event starts, which read this table
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onTranslationsReloaded(TranslationsReloadedEvent event) {
+        transactionTemplate.executeWithoutResult(status -> {
+            // All deletes go first: after a rename the rows to copy under the new code still sit under the old one
+            for (String locale : event.getLocales()) {
+                jdbcTemplate.update("delete from translation_export where locale_code = ?", locale);
+            }
+            for (String locale : event.getLocales()) {
+                jdbcTemplate.update(COPY + " where l.code = ?", locale);
+            }
+        });
+    }
+
+    // Ordered ahead of the index loads started on readiness; covers rows written before this table existed
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void reconcileOnStartup() {
+        Map<String, Object> translations = fingerprint("id", "translations");
+        Map<String, Object> exported = fingerprint("translation_id", "translation_export");
+        if (translations.equals(exported)) {
+            return;
+        }
+        long started = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("delete from translation_export");
+            jdbcTemplate.update(COPY);
+        });
+        log.info("Rebuilt the export read model ({} rows, had {}) in {} ms",
+                translations.get("TOTAL"), exported.get("TOTAL"), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private void apply(List<TranslationChangedEvent> changes) {
+        List<Object[]> deletes = new ArrayList<>();
+        List<Object[]> upserts = new ArrayList<>();
+        for (TranslationChangedEvent change : changes) {
+            FullTranslationExportDTO after = change.getAfter();
+            if (after == null) {
+                deletes.add(new Object[]{change.getBefore().getId()});
+            } else {
+                upserts.add(new Object[]{after.getId(), after.getLocaleCode(), after.getTagName(), after.getKey(),
+                        after.getContent(), after.getUpdatedAt() == null ? null : Timestamp.valueOf(after.getUpdatedAt())});
+            }
+        }
+        if (!deletes.isEmpty()) {
+            jdbcTemplate.batchUpdate(DELETE, deletes);
+        }
+        if (!upserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT, upserts);
+        }
+    }
+
+    // A count alone misses a row swapped for another or an edit whose event was lost
+    private Map<String, Object> fingerprint(String id, String table) {
+        return jdbcTemplate.queryForMap("select count(*) as total, sum(" + id + ") as ids, max(updated_at) as newest from " + table);
+    }
+}
@@ -0,0 +1,137 @@
+package com.service.translations.repository;
+
+import com.service.translations.dto.FullTranslationExportDTO;
+import com.service.translations.dto.TranslationExportDTO;
+import com.service.translations.dto.TranslationExportVersionDTO;
+import com.service.translations.entity.TranslationExport;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Export queries over the {@link TranslationExport} read model. Each one is a range scan of a single
+ * index: (locale, updatedAt), (locale, tag, updatedAt) or (updatedAt, id).
+ */
+@Repository
+public interface TranslationExportRepository extends JpaRepository<TranslationExport, Long> {
+
+    @Query(
+            value = "SELECT new com.service.translations.dto.TranslationExportDTO(e.key, e.content, e.updatedAt) " +
+                    "FROM TranslationExport e WHERE e.localeCode = :locale ORDER BY e.updatedAt DESC",
+            countQuery = "SELECT count(e) FROM TranslationExport e WHERE e.localeCode = :locale"
+    )
+    Page<TranslationExportDTO> findAllByLocaleCode(@Param("locale") String locale, Pageable pageable);
+
+    @Query(
+            value = "SELECT new com.service.translations.dto.TranslationExportDTO(e.key, e.content, e.updatedAt) " +
+                    "FROM TranslationExport e WHERE e.localeCode = :locale AND e.tagName = :tag ORDER BY e.updatedAt DESC",
+            countQuery = "SELECT count(e) FROM TranslationExport e WHERE e.localeCode = :locale AND e.tagName = :tag"
+    )
+    Page<TranslationExportDTO> findAllByLocaleCodeAndTag(@Param("locale") String locale, @Param("tag") String tag,
+                                                         Pageable pageable);
+
+    @Query("SELECT new com.service.translations.dto.TranslationExportVersionDTO(count(e), max(e.updatedAt)) " +
+            "FROM TranslationExport e WHERE e.localeCode = :locale")
+    TranslationExportVersionDTO findVersionByLocaleCode(@Param("locale") String locale);
+
+    @Query("SELECT new com.service.translations.dto.TranslationExportVersionDTO(count(e), max(e.updatedAt)) " +
+            "FROM TranslationExport e WHERE e.localeCode = :locale AND e.tagName = :tag")
+    TranslationExportVersionDTO findVersionByLocaleCodeAndTag(@Param("locale") String locale, @Param("tag") String tag);
+
+    @Query("SELECT new com.service.translations.dto.TranslationExportDTO(e.key, e.content, e.updatedAt) " +
+            "FROM TranslationExport e WHERE e.localeCode = :locale AND e.updatedAt > :since ORDER BY e.updatedAt")
+    List<TranslationExportDTO> findChangedSince(@Param("locale") String locale, @Param("since") LocalDateTime since);
+
+    @Query("SELECT new com.service.translations.dto.TranslationExportDTO(e.key, e.content, e.updatedAt) " +
+            "FROM TranslationExport e WHERE e.localeCode = :locale AND e.tagName = :tag AND e.updatedAt > :since " +
+            "ORDER BY e.updatedAt")
+    List<TranslationExportDTO> findChangedSinceByTag(@Param("locale") String locale, @Param("tag") String tag,
+                                                     @Param("since") LocalDateTime since);
+
+    @Query("""
+SELECT new com.service.translations.dto.FullTranslationExportDTO(
+    e.translationId, e.localeCode, e.key, e.content, e.tagName, e.updatedAt
+)
+FROM TranslationExport e
+ORDER BY e.updatedAt DESC
+""")
+    // Timeout in ms, the export executor's default: past it the database abandons the statement as well
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.readOnly", value = "true"),
+            @QueryHint(name = "org.hibernate.fetchSize", value = "500"),
+            @QueryHint(name = "org.hibernate.comment", value = "custom_export_query"),
+            @QueryHint(name = "javax.persistence.query.timeout", value = "60000")
+    })
+    Page<FullTranslationExportDTO> findAllForExport(Pageable pageable);
+
+    // Keyset pages: a List return type skips the count query, and the seek predicate keeps every page a range scan
+    @Query("""
+SELECT new com.service.translations.dto.FullTranslationExportDTO(
+    e.translationId, e.localeCode, e.key, e.content, e.tagName, e.updatedAt
+)
+FROM TranslationExport e
+ORDER BY e.updatedAt DESC, e.translationId DESC
+""")
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.readOnly", value = "true"),
+            @QueryHint(name = "org.hibernate.fetchSize", value = "500")
+    })
+    List<FullTranslationExportDTO> findFirstForExport(Pageable pageable);
+
+    @Query("""
+SELECT new com.service.translations.dto.FullTranslationExportDTO(
+    e.translationId, e.localeCode, e.key, e.content, e.tagName, e.updatedAt
+)
+FROM TranslationExport e
+WHERE e.updatedAt <= :updatedAt AND (e.updatedAt < :updatedAt OR e.translationId < :id)
+ORDER BY e.updatedAt DESC, e.translationId DESC
+""")
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.readOnly", value = "true"),
+            @QueryHint(name = "org.hibernate.fetchSize", value = "500")
+    })
+    List<FullTranslationExportDTO> findNextForExport(@Param("updatedAt") LocalDateTime updatedAt, @Param("id") Long id,
+                                                     Pageable pageable);
+
+    @Query("""
+SELECT new com.service.translations.dto.FullTranslationExportDTO(
+    e.translationId, e.localeCode, e.key, e.content, e.tagName, e.updatedAt
+)
+FROM TranslationExport e
+ORDER BY e.updatedAt DESC
+""")
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.readOnly", value = "true"),
+            @QueryHint(name = "org.hibernate.fetchSize", value = "500"),
+            @QueryHint(name = "org.hibernate.comment", value = "custom_stream_export_query")
+    })
+    Stream<FullTranslationExportDTO> streamAllForExport();
+
+    @Query("""
+SELECT new com.service.translations.dto.FullTranslationExportDTO(
+    e.translationId, e.localeCode, e.key, e.content, e.tagName, e.updatedAt
+)
+FROM TranslationExport e
+WHERE e.localeCode = :locale
+ORDER BY e.updatedAt DESC
+""")
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.readOnly", value = "true"),
+            @QueryHint(name = "org.hibernate.fetchSize", value = "500"),
+            @QueryHint(name = "org.hibernate.comment", value = "custom_stream_export_query")
+    })
+    Stream<FullTranslationExportDTO> streamAllByLocale(@Param("locale") String locale);
+
+    @Query("SELECT DISTINCT e.localeCode FROM TranslationExport e WHERE e.tagName = :tag")
+    Set<String> findLocaleCodesByTag(@Param("tag") String tag);
+}
@@ -0,0 +1,16 @@
+package com.service.translations.repository;
+
+import com.service.translations.dto.FullTranslationExportDTO;
+import com.service.translations.entity.Translation;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface TranslationRepositoryCustom {
+
+    /**
+     * Projects rows matching {@code spec} straight into flat DTOs with one joined select, plus a count
+     * query only when {@code withCount} is set; the result is then a {@link org.springframework.data.domain.Page}.
+     */
+    Slice<FullTranslationExportDTO> findFlat(Specification<Translation> spec, Pageable pageable, boolean withCount);
+}
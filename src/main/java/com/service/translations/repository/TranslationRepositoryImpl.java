@@ -0,0 +1,90 @@
+package com.service.translations.repository;
+
+import com.service.translations.dto.FullTranslationExportDTO;
+import com.service.translations.entity.Locale;
+import com.service.translations.entity.Tag;
+import com.service.translations.entity.Translation;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.TypedQuery;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.JoinType;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.util.List;
+
+public class TranslationRepositoryImpl implements TranslationRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Slice<FullTranslationExportDTO> findFlat(Specification<Translation> spec, Pageable pageable, boolean withCount) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<FullTranslationExportDTO> query = cb.createQuery(FullTranslationExportDTO.class);
+        Root<Translation> root = query.from(Translation.class);
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        // Reuse a tag join the filter already made so the row is not joined twice
+        Join<Translation, Tag> tag = root.getJoins().stream()
+                .filter(join -> "tag".equals(join.getAttribute().getName()))
+                .map(join -> (Join<Translation, Tag>) join)
+                .findFirst()
+                .orElseGet(() -> root.join("tag", JoinType.LEFT));
+        Join<Translation, Locale> locale = root.join("locale");
+
+        query.select(cb.construct(FullTranslationExportDTO.class,
+                root.get("id"), locale.get("code"), root.get("key"), root.get("content"),
+                tag.get("name"), root.get("updatedAt")));
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        TypedQuery<FullTranslationExportDTO> rows = entityManager.createQuery(query);
+        if (pageable.isUnpaged()) {
+            List<FullTranslationExportDTO> content = rows.getResultList();
+            return new PageImpl<>(content, pageable, content.size());
+        }
+
+        if (!withCount) {
+            // One extra row tells whether a next slice exists
+            List<FullTranslationExportDTO> content = rows
+                    .setFirstResult((int) pageable.getOffset())
+                    .setMaxResults(pageable.getPageSize() + 1)
+                    .getResultList();
+            boolean hasNext = content.size() > pageable.getPageSize();
+            return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+        }
+
+        List<FullTranslationExportDTO> content = rows
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+        return new PageImpl<>(content, pageable, count(spec));
+    }
+
+    private long count(Specification<Translation> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Translation> root = query.from(Translation.class);
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(cb.count(root));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
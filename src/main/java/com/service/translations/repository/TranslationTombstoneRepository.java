@@ -0,0 +1,32 @@
+package com.service.translations.repository;
+
+import com.service.translations.entity.TranslationTombstone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface TranslationTombstoneRepository extends JpaRepository<TranslationTombstone, Long> {
+
+    List<TranslationTombstone> findByLocaleCodeAndDeletedAtAfter(String localeCode, LocalDateTime since);
+
+    List<TranslationTombstone> findByLocaleCodeAndTagNameAndDeletedAtAfter(String localeCode, String tagName, LocalDateTime since);
+
+    @Query("SELECT max(t.deletedAt) FROM TranslationTombstone t WHERE t.localeCode = :locale")
+    LocalDateTime findLastDeletedAt(@Param("locale") String locale);
+
+    @Query("SELECT max(t.deletedAt) FROM TranslationTombstone t WHERE t.localeCode = :locale AND t.tagName = :tag")
+    LocalDateTime findLastDeletedAtByTag(@Param("locale") String locale, @Param("tag") String tag);
+
+    // The newest tombstone of each (locale, tag) stays whatever its age: it is that bundle's delete watermark
+    @Modifying
+    @Query("DELETE FROM TranslationTombstone t WHERE t.deletedAt < :cutoff AND t.deletedAt < ("
+            + "SELECT max(o.deletedAt) FROM TranslationTombstone o WHERE o.localeCode = t.localeCode "
+            + "AND coalesce(o.tagName, '') = coalesce(t.tagName, ''))")
+    int deleteExpired(@Param("cutoff") LocalDateTime cutoff);
+}
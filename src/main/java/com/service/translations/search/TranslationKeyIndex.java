@@ -0,0 +1,188 @@
+package com.service.translations.search;
+
+import com.service.translations.cache.LocaleEpochs;
+import com.service.translations.dto.CursorPageDTO;
+import com.service.translations.dto.FullTranslationExportDTO;
+import com.service.translations.dto.TranslationKeyDTO;
+import com.service.translations.event.TranslationChangedEvent;
+import com.service.translations.event.TranslationsBatchChangedEvent;
+import com.service.translations.event.TranslationsReloadedEvent;
+import com.service.translations.repository.TranslationExportRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Sorted in-memory index of translation keys per locale, answering prefix and glob queries.
+ * <p>
+ * A locale's keys are loaded on first use and then patched from committed translation events,
+ * under the {@link LocaleEpochs} rule: an index loaded while a write to its locale was committing
+ * answers that one query but is not kept.
+ */
+@Component
+public class TranslationKeyIndex {
+
+    // Tags of rows without one are held under this name
+    private static final String NO_TAG = "";
+
+    private final TranslationExportRepository repo;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ConcurrentMap<String, ConcurrentSkipListMap<String, Set<String>>> locales = new ConcurrentHashMap<>();
+    private final LocaleEpochs epochs = new LocaleEpochs();
+
+    public TranslationKeyIndex(TranslationExportRepository repo, TransactionTemplate transactionTemplate) {
+        this.repo = repo;
+        this.readOnlyTransaction = LocaleEpochs.readOnly(transactionTemplate);
+    }
+
+    /**
+     * Returns keys matching {@code pattern} in key order, starting after {@code after}. A pattern without
+     * {@code *} or {@code ?} is a plain prefix; otherwise {@code *} matches any run of characters and
+     * {@code ?} a single character.
+     */
+    public CursorPageDTO<TranslationKeyDTO> find(String locale, String pattern, String tag, String after, int size) {
+        NavigableMap<String, Set<String>> keys = keys(locale);
+        String normalized = pattern == null ? "" : pattern.trim().toLowerCase();
+        int wildcard = firstWildcard(normalized);
+        String prefix = wildcard < 0 ? normalized : normalized.substring(0, wildcard);
+        Pattern glob = wildcard < 0 ? null : toRegex(normalized);
+
+        NavigableMap<String, Set<String>> range = after != null && after.compareTo(prefix) >= 0
+                ? keys.tailMap(after, false)
+                : keys.tailMap(prefix, true);
+
+        List<TranslationKeyDTO> matches = new ArrayList<>(size);
+        boolean hasMore = false;
+        for (Map.Entry<String, Set<String>> entry : range.entrySet()) {
+            String key = entry.getKey();
+            if (!key.startsWith(prefix)) {
+                break;
+            }
+            if (glob != null && !glob.matcher(key).matches()) {
+                continue;
+            }
+            if (tag != null && !tag.isEmpty() && !entry.getValue().contains(tag)) {
+                continue;
+            }
+            if (matches.size() == size) {
+                hasMore = true;
+                break;
+            }
+            List<String> tags = new ArrayList<>(entry.getValue());
+            tags.remove(NO_TAG);
+            tags.sort(null);
+            matches.add(new TranslationKeyDTO(key, tags));
+        }
+
+        String nextCursor = hasMore ? matches.get(matches.size() - 1).getKey() : null;
+        return new CursorPageDTO<>(matches, matches.size(), hasMore, nextCursor);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTranslationChanged(TranslationChangedEvent event) {
+        apply(event);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTranslationsBatchChanged(TranslationsBatchChangedEvent event) {
+        event.getChanges().forEach(this::apply);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTranslationsReloaded(TranslationsReloadedEvent event) {
+        for (String locale : event.getLocales()) {
+            epochs.bump(locale);
+            locales.remove(locale);
+        }
+    }
+
+    private void apply(TranslationChangedEvent change) {
+        FullTranslationExportDTO before = change.getBefore();
+        FullTranslationExportDTO after = change.getAfter();
+        if (before != null) {
+            epochs.bump(before.getLocaleCode());
+            ConcurrentSkipListMap<String, Set<String>> keys = locales.get(before.getLocaleCode());
+            if (keys != null) {
+                keys.computeIfPresent(before.getKey(), (k, tags) -> without(tags, tagOf(before)));
+            }
+        }
+        if (after != null) {
+            epochs.bump(after.getLocaleCode());
+            ConcurrentSkipListMap<String, Set<String>> keys = locales.get(after.getLocaleCode());
+            if (keys != null) {
+                keys.merge(after.getKey(), Set.of(tagOf(after)), TranslationKeyIndex::union);
+            }
+        }
+    }
+
+    private NavigableMap<String, Set<String>> keys(String locale) {
+        return epochs.readThrough(locales, locale, readOnlyTransaction, this::load);
+    }
+
+    private ConcurrentSkipListMap<String, Set<String>> load(String locale) {
+        ConcurrentSkipListMap<String, Set<String>> keys = new ConcurrentSkipListMap<>();
+        try (Stream<FullTranslationExportDTO> rows = repo.streamAllByLocale(locale)) {
+            rows.forEach(row -> keys.merge(row.getKey(), Set.of(tagOf(row)), TranslationKeyIndex::union));
+        }
+        return keys;
+    }
+
+    private static String tagOf(FullTranslationExportDTO row) {
+        return row.getTagName() == null ? NO_TAG : row.getTagName();
+    }
+
+    private static Set<String> union(Set<String> current, Set<String> added) {
+        Set<String> merged = new HashSet<>(current);
+        merged.addAll(added);
+        return Set.copyOf(merged);
+    }
+
+    // A key whose last tag is removed leaves the index
+    private static Set<String> without(Set<String> current, String tag) {
+        Set<String> remaining = new HashSet<>(current);
+        remaining.remove(tag);
+        return remaining.isEmpty() ? null : Set.copyOf(remaining);
+    }
+
+    private static int firstWildcard(String pattern) {
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c == '*' || c == '?') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static Pattern toRegex(String glob) {
+        StringBuilder regex = new StringBuilder();
+        StringBuilder literal = new StringBuilder();
+        for (char c : glob.toCharArray()) {
+            if (c == '*' || c == '?') {
+                if (literal.length() > 0) {
+                    regex.append(Pattern.quote(literal.toString()));
+                    literal.setLength(0);
+                }
+                regex.append(c == '*' ? ".*" : ".");
+            } else {
+                literal.append(c);
+            }
+        }
+        if (literal.length() > 0) {
+            regex.append(Pattern.quote(literal.toString()));
+        }
+        return Pattern.compile(regex.toString(), Pattern.DOTALL);
+    }
+}
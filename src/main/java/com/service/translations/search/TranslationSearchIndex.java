@@ -0,0 +1,452 @@
+package com.service.translations.search;
+
+import com.service.translations.cache.LocaleTagDictionary;
+import com.service.translations.dto.FullTextSearchResultDTO;
+import com.service.translations.dto.FullTranslationExportDTO;
+import com.service.translations.dto.TranslationSearchHitDTO;
+import com.service.translations.entity.Locale;
+import com.service.translations.event.TranslationChangedEvent;
+import com.service.translations.event.TranslationsBatchChangedEvent;
+import com.service.translations.event.TranslationsReloadedEvent;
+import com.service.translations.repository.TranslationExportRepository;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.de.GermanAnalyzer;
+import org.apache.lucene.analysis.en.EnglishAnalyzer;
+import org.apache.lucene.analysis.es.SpanishAnalyzer;
+import org.apache.lucene.analysis.fr.FrenchAnalyzer;
+import org.apache.lucene.analysis.it.ItalianAnalyzer;
+import org.apache.lucene.analysis.miscellaneous.PerFieldAnalyzerWrapper;
+import org.apache.lucene.analysis.nl.DutchAnalyzer;
+import org.apache.lucene.analysis.pt.PortugueseAnalyzer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.simple.SimpleQueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.store.Lock;
+import org.apache.lucene.store.LockObtainFailedException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.FileSystemUtils;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Embedded Lucene index over translation keys and content, one on-disk index per locale.
+ * <p>
+ * Content is analyzed with the locale's language analyzer and keys are split on their separators.
+ * The indexes are rebuilt from the database in parallel once the application is ready and are then
+ * kept current from committed translation events; changes that arrive while a locale is being
+ * rebuilt are queued and replayed on top of the rebuilt index.
+ * <p>
+ * Since the indexes are rebuilt on every start, each instance works in a temporary directory of its
+ * own unless {@code translations.search.index-dir} names one; a named directory is locked for the
+ * lifetime of the instance, and a second instance pointed at it fails at startup.
+ * <p>
+ * Background rebuilds run on the application task executor, so a rebuild still running at shutdown
+ * is interrupted with the context.
+ */
+@Slf4j
+@Component
+public class TranslationSearchIndex {
+
+    private static final String ID = "id";
+    private static final String KEY = "key";
+    private static final String KEY_TOKENS = "keyTokens";
+    private static final String CONTENT = "content";
+    private static final String TAG = "tag";
+    private static final String UPDATED_AT = "updatedAt";
+
+    private final TranslationExportRepository repo;
+    private final LocaleTagDictionary dictionary;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Path baseDir;
+    private final boolean temporaryDir;
+    private final Directory lockDirectory;
+    private final Lock instanceLock;
+    private final int rebuildThreads;
+    private final TaskExecutor taskExecutor;
+    private final ConcurrentMap<String, LocaleIndex> indexes = new ConcurrentHashMap<>();
+    private volatile boolean closed;
+
+    public TranslationSearchIndex(TranslationExportRepository repo,
+                                  LocaleTagDictionary dictionary,
+                                  TransactionTemplate transactionTemplate,
+                                  @Value("${translations.search.index-dir:}") String indexDir,
+                                  @Value("${translations.search.rebuild-threads:0}") int rebuildThreads,
+                                  @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+                                  TaskExecutor taskExecutor) throws IOException {
+        this.repo = repo;
+        this.dictionary = dictionary;
+        this.readOnlyTransaction = new TransactionTemplate(Objects.requireNonNull(transactionTemplate.getTransactionManager()));
+        this.readOnlyTransaction.setReadOnly(true);
+        this.temporaryDir = indexDir == null || indexDir.isBlank();
+        this.baseDir = temporaryDir ? Files.createTempDirectory("translations-index-") : Path.of(indexDir);
+        Files.createDirectories(baseDir);
+        this.lockDirectory = FSDirectory.open(baseDir);
+        try {
+            this.instanceLock = lockDirectory.obtainLock("instance.lock");
+        } catch (LockObtainFailedException e) {
+            lockDirectory.close();
+            throw new IllegalStateException("Search index directory " + baseDir + " is in use by another instance; "
+                    + "give each instance its own translations.search.index-dir or leave it empty", e);
+        }
+        this.rebuildThreads = rebuildThreads > 0 ? rebuildThreads : Runtime.getRuntime().availableProcessors();
+        this.taskExecutor = taskExecutor;
+    }
+
+    // Searches see partial results until the rebuild ends
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuildInBackground();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTranslationsReloaded(TranslationsReloadedEvent event) {
+        rebuildInBackground();
+    }
+
+    private void rebuildInBackground() {
+        taskExecutor.execute(this::rebuildAll);
+    }
+
+    // Rebuilds run one at a time: two interleaved rebuilds of a locale would index its rows twice
+    public synchronized void rebuildAll() {
+        // Locales seeded after the dictionary first loaded would otherwise be missed
+        dictionary.refresh();
+        List<Locale> locales = dictionary.locales();
+        clearRenamedLocales(locales);
+        if (locales.isEmpty()) {
+            return;
+        }
+        long started = System.nanoTime();
+        ExecutorService pool = Executors.newFixedThreadPool(Math.min(rebuildThreads, locales.size()),
+                new CustomizableThreadFactory("search-index-rebuild-"));
+        try {
+            List<Future<Long>> rebuilt = new ArrayList<>();
+            for (Locale locale : locales) {
+                rebuilt.add(pool.submit(() -> rebuild(locale.getCode())));
+            }
+            long documents = 0;
+            for (Future<Long> future : rebuilt) {
+                documents += future.get();
+            }
+            log.info("Rebuilt search indexes for {} locales ({} documents) in {} ms",
+                    locales.size(), documents, (System.nanoTime() - started) / 1_000_000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            // Closing the indexes at shutdown fails a rebuild still running on them
+            if (!closed) {
+                log.error("Search index rebuild failed", e);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    // A renamed locale leaves an index under its old code, emptied rather than closed under concurrent searches
+    private void clearRenamedLocales(List<Locale> locales) {
+        Set<String> codes = locales.stream().map(Locale::getCode).collect(Collectors.toSet());
+        for (LocaleIndex index : indexes.values()) {
+            if (!codes.contains(index.locale)) {
+                try {
+                    index.writer.deleteAll();
+                    index.writer.commit();
+                    index.searchers.maybeRefresh();
+                } catch (IOException e) {
+                    log.warn("Failed to clear search index for locale {}", index.locale, e);
+                }
+            }
+        }
+    }
+
+    public long rebuild(String locale) throws IOException {
+        LocaleIndex index = index(locale);
+        index.beginRebuild();
+        AtomicLong documents = new AtomicLong();
+        try {
+            index.writer.deleteAll();
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<FullTranslationExportDTO> rows = repo.streamAllByLocale(locale)) {
+                    rows.forEach(row -> {
+                        index.add(row);
+                        documents.incrementAndGet();
+                    });
+                }
+            });
+        } finally {
+            index.endRebuild();
+        }
+        index.writer.commit();
+        index.searchers.maybeRefresh();
+        return documents.get();
+    }
+
+    public FullTextSearchResultDTO search(String locale, String text, String tag, int page, int size) throws IOException {
+        LocaleIndex index = indexes.get(locale);
+        if (index == null) {
+            return new FullTextSearchResultDTO(0, true, page, size, List.of());
+        }
+
+        SimpleQueryParser parser = new SimpleQueryParser(index.analyzer, Map.of(KEY_TOKENS, 2.0f, CONTENT, 1.0f));
+        parser.setDefaultOperator(BooleanClause.Occur.MUST);
+        Query parsed = parser.parse(text);
+        if (parsed == null) {
+            return new FullTextSearchResultDTO(0, true, page, size, List.of());
+        }
+        Query query = parsed;
+        if (tag != null && !tag.isEmpty()) {
+            query = new BooleanQuery.Builder()
+                    .add(parsed, BooleanClause.Occur.MUST)
+                    .add(new TermQuery(new Term(TAG, tag)), BooleanClause.Occur.FILTER)
+                    .build();
+        }
+
+        IndexSearcher searcher = index.searchers.acquire();
+        try {
+            TopDocs top = searcher.search(query, (page + 1) * size);
+            StoredFields stored = searcher.storedFields();
+            List<TranslationSearchHitDTO> hits = new ArrayList<>();
+            for (int i = page * size; i < top.scoreDocs.length; i++) {
+                ScoreDoc scoreDoc = top.scoreDocs[i];
+                Document doc = stored.document(scoreDoc.doc);
+                String updatedAt = doc.get(UPDATED_AT);
+                hits.add(new TranslationSearchHitDTO(
+                        Long.valueOf(doc.get(ID)),
+                        locale,
+                        doc.get(KEY),
+                        doc.get(CONTENT),
+                        doc.get(TAG),
+                        updatedAt != null ? LocalDateTime.parse(updatedAt) : null,
+                        scoreDoc.score));
+            }
+            return new FullTextSearchResultDTO(top.totalHits.value,
+                    top.totalHits.relation == TotalHits.Relation.EQUAL_TO, page, size, hits);
+        } finally {
+            index.searchers.release(searcher);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTranslationChanged(TranslationChangedEvent event) {
+        apply(List.of(event));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTranslationsBatchChanged(TranslationsBatchChangedEvent event) {
+        apply(event.getChanges());
+    }
+
+    // The index is derived from the database, so a failure here is logged rather than failing the write
+    private void apply(List<TranslationChangedEvent> changes) {
+        try {
+            applyChanges(changes);
+        } catch (RuntimeException e) {
+            log.error("Failed to apply {} changes to the search index", changes.size(), e);
+        }
+    }
+
+    private void applyChanges(List<TranslationChangedEvent> changes) {
+        List<LocaleIndex> touched = new ArrayList<>();
+        for (TranslationChangedEvent change : changes) {
+            FullTranslationExportDTO before = change.getBefore();
+            FullTranslationExportDTO after = change.getAfter();
+            if (before != null && (after == null || !before.getLocaleCode().equals(after.getLocaleCode()))) {
+                LocaleIndex index = index(before.getLocaleCode());
+                index.apply(before.getId(), null);
+                touched.add(index);
+            }
+            if (after != null) {
+                LocaleIndex index = index(after.getLocaleCode());
+                index.apply(after.getId(), after);
+                touched.add(index);
+            }
+        }
+        touched.stream().distinct().forEach(LocaleIndex::refresh);
+    }
+
+    private LocaleIndex index(String locale) {
+        return indexes.computeIfAbsent(locale, code -> {
+            try {
+                return new LocaleIndex(code);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot open search index for locale " + code, e);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void close() {
+        closed = true;
+        for (LocaleIndex index : indexes.values()) {
+            try {
+                index.searchers.close();
+                index.writer.close();
+                index.directory.close();
+            } catch (IOException e) {
+                log.warn("Failed to close search index for locale {}", index.locale, e);
+            }
+        }
+        try {
+            instanceLock.close();
+            lockDirectory.close();
+            if (temporaryDir) {
+                FileSystemUtils.deleteRecursively(baseDir);
+            }
+        } catch (IOException e) {
+            log.warn("Failed to release search index directory {}", baseDir, e);
+        }
+    }
+
+    static Analyzer contentAnalyzer(String locale) {
+        String language = locale.split("[-_]")[0].toLowerCase();
+        switch (language) {
+            case "en": return new EnglishAnalyzer();
+            case "fr": return new FrenchAnalyzer();
+            case "es": return new SpanishAnalyzer();
+            case "de": return new GermanAnalyzer();
+            case "it": return new ItalianAnalyzer();
+            case "pt": return new PortugueseAnalyzer();
+            case "nl": return new DutchAnalyzer();
+            default: return new StandardAnalyzer();
+        }
+    }
+
+    private static Document toDocument(FullTranslationExportDTO row) {
+        Document doc = new Document();
+        doc.add(new StringField(ID, String.valueOf(row.getId()), Field.Store.YES));
+        doc.add(new StoredField(KEY, row.getKey()));
+        // Keys such as "checkout.button_label" are searchable by their parts
+        doc.add(new TextField(KEY_TOKENS, row.getKey().replaceAll("[._\\-/:]+", " "), Field.Store.NO));
+        doc.add(new TextField(CONTENT, row.getContent(), Field.Store.YES));
+        if (row.getTagName() != null) {
+            doc.add(new StringField(TAG, row.getTagName(), Field.Store.YES));
+        }
+        if (row.getUpdatedAt() != null) {
+            doc.add(new StoredField(UPDATED_AT, row.getUpdatedAt().toString()));
+        }
+        return doc;
+    }
+
+    private final class LocaleIndex {
+        private final String locale;
+        private final Analyzer analyzer;
+        private final Directory directory;
+        private final IndexWriter writer;
+        private final SearcherManager searchers;
+        private List<PendingChange> pending;
+
+        private LocaleIndex(String locale) throws IOException {
+            this.locale = locale;
+            this.analyzer = new PerFieldAnalyzerWrapper(new StandardAnalyzer(),
+                    Map.of(CONTENT, contentAnalyzer(locale)));
+            Path dir = baseDir.resolve(locale.replaceAll("[^A-Za-z0-9_-]", "_"));
+            Files.createDirectories(dir);
+            this.directory = FSDirectory.open(dir);
+            this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                    .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+            this.searchers = new SearcherManager(writer, null);
+        }
+
+        private synchronized void beginRebuild() {
+            pending = new ArrayList<>();
+        }
+
+        private synchronized void endRebuild() {
+            List<PendingChange> queued = pending;
+            pending = null;
+            for (PendingChange change : queued) {
+                write(change.id, change.row);
+            }
+        }
+
+        // A null row removes the document
+        private synchronized void apply(Long id, FullTranslationExportDTO row) {
+            if (pending != null) {
+                pending.add(new PendingChange(id, row));
+            } else {
+                write(id, row);
+            }
+        }
+
+        private void add(FullTranslationExportDTO row) {
+            try {
+                writer.addDocument(toDocument(row));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void write(Long id, FullTranslationExportDTO row) {
+            try {
+                if (row == null) {
+                    writer.deleteDocuments(new Term(ID, String.valueOf(id)));
+                } else {
+                    writer.updateDocument(new Term(ID, String.valueOf(id)), toDocument(row));
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void refresh() {
+            try {
+                searchers.maybeRefresh();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    @AllArgsConstructor
+    private static final class PendingChange {
+        private final Long id;
+        private final FullTranslationExportDTO row;
+    }
+}
@@ -0,0 +1,300 @@
+package com.service.translations.search;
+
+import com.service.translations.cache.LocaleEpochs;
+import com.service.translations.dto.FullTranslationExportDTO;
+import com.service.translations.dto.TranslationSearchHitDTO;
+import com.service.translations.event.TranslationChangedEvent;
+import com.service.translations.event.TranslationsBatchChangedEvent;
+import com.service.translations.event.TranslationsReloadedEvent;
+import com.service.translations.repository.TranslationExportRepository;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * In-memory trigram index over translation keys and content, one per locale, for fuzzy and
+ * near-duplicate lookups.
+ * <p>
+ * Text is case-folded and punctuation is treated as a word break, so "Sign-in" and "Sign in" share
+ * every trigram. Similarity is the Jaccard coefficient of the trigram sets, taking the better of the
+ * key and content scores. Locales load on first use and are patched from committed translation
+ * events under the {@link LocaleEpochs} rule.
+ */
+@Component
+public class TranslationSimilarityIndex {
+
+    private final TranslationExportRepository repo;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ConcurrentMap<String, LocaleGrams> locales = new ConcurrentHashMap<>();
+    private final LocaleEpochs epochs = new LocaleEpochs();
+
+    public TranslationSimilarityIndex(TranslationExportRepository repo, TransactionTemplate transactionTemplate) {
+        this.repo = repo;
+        this.readOnlyTransaction = LocaleEpochs.readOnly(transactionTemplate);
+    }
+
+    /**
+     * Returns up to {@code limit} translations of {@code locale} whose key or content scores at least
+     * {@code threshold} against the given texts, best first. Either text may be null.
+     */
+    public List<TranslationSearchHitDTO> similar(String locale, String key, String content, double threshold, int limit) {
+        return grams(locale).search(trigrams(key), trigrams(content), threshold, limit);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTranslationChanged(TranslationChangedEvent event) {
+        apply(event);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTranslationsBatchChanged(TranslationsBatchChangedEvent event) {
+        event.getChanges().forEach(this::apply);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTranslationsReloaded(TranslationsReloadedEvent event) {
+        for (String locale : event.getLocales()) {
+            epochs.bump(locale);
+            locales.remove(locale);
+        }
+    }
+
+    private void apply(TranslationChangedEvent change) {
+        FullTranslationExportDTO before = change.getBefore();
+        FullTranslationExportDTO after = change.getAfter();
+        if (before != null) {
+            epochs.bump(before.getLocaleCode());
+            LocaleGrams grams = locales.get(before.getLocaleCode());
+            if (grams != null) {
+                grams.remove(before.getId());
+            }
+        }
+        if (after != null) {
+            epochs.bump(after.getLocaleCode());
+            LocaleGrams grams = locales.get(after.getLocaleCode());
+            if (grams != null) {
+                grams.put(after);
+            }
+        }
+    }
+
+    private LocaleGrams grams(String locale) {
+        return epochs.readThrough(locales, locale, readOnlyTransaction, this::load);
+    }
+
+    private LocaleGrams load(String locale) {
+        LocaleGrams grams = new LocaleGrams();
+        try (Stream<FullTranslationExportDTO> rows = repo.streamAllByLocale(locale)) {
+            rows.forEach(grams::put);
+        }
+        return grams;
+    }
+
+    /**
+     * Distinct trigrams of the normalized text, sorted, each packed into a long (three 16-bit chars).
+     */
+    static long[] trigrams(String text) {
+        if (text == null || text.isBlank()) {
+            return new long[0];
+        }
+        StringBuilder normalized = new StringBuilder("  ");
+        boolean space = true;
+        for (int i = 0; i < text.length(); i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+            if (Character.isLetterOrDigit(c)) {
+                normalized.append(c);
+                space = false;
+            } else if (!space) {
+                normalized.append(' ');
+                space = true;
+            }
+        }
+        if (!space) {
+            normalized.append(' ');
+        }
+        if (normalized.length() < 3) {
+            return new long[0];
+        }
+
+        long[] grams = new long[normalized.length() - 2];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = ((long) normalized.charAt(i) << 32) | ((long) normalized.charAt(i + 1) << 16) | normalized.charAt(i + 2);
+        }
+        Arrays.sort(grams);
+        int distinct = 0;
+        for (int i = 0; i < grams.length; i++) {
+            if (i == 0 || grams[i] != grams[i - 1]) {
+                grams[distinct++] = grams[i];
+            }
+        }
+        return Arrays.copyOf(grams, distinct);
+    }
+
+    /**
+     * Postings are int doc numbers; an update retires the old doc and appends a new one, and retired
+     * docs are dropped from the postings once they outnumber the live ones.
+     */
+    private static final class LocaleGrams {
+        private static final int MIN_COMPACT = 1024;
+
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private final Map<Long, Integer> docByTranslation = new HashMap<>();
+        private final List<Doc> docs = new ArrayList<>();
+        private final Map<Long, Postings> keyPostings = new HashMap<>();
+        private final Map<Long, Postings> contentPostings = new HashMap<>();
+        private int retired;
+
+        private void put(FullTranslationExportDTO row) {
+            Doc doc = new Doc(row, trigrams(row.getKey()), trigrams(row.getContent()));
+            lock.writeLock().lock();
+            try {
+                retire(row.getId());
+                index(doc);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private void remove(Long translationId) {
+            lock.writeLock().lock();
+            try {
+                retire(translationId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private void retire(Long translationId) {
+            Integer previous = docByTranslation.remove(translationId);
+            if (previous == null) {
+                return;
+            }
+            docs.set(previous, null);
+            retired++;
+            if (retired > MIN_COMPACT && retired > docByTranslation.size()) {
+                compact();
+            }
+        }
+
+        private void index(Doc doc) {
+            int docNumber = docs.size();
+            docs.add(doc);
+            docByTranslation.put(doc.row.getId(), docNumber);
+            for (long gram : doc.keyGrams) {
+                keyPostings.computeIfAbsent(gram, g -> new Postings()).add(docNumber);
+            }
+            for (long gram : doc.contentGrams) {
+                contentPostings.computeIfAbsent(gram, g -> new Postings()).add(docNumber);
+            }
+        }
+
+        private void compact() {
+            List<Doc> live = new ArrayList<>(docByTranslation.size());
+            for (Doc doc : docs) {
+                if (doc != null) {
+                    live.add(doc);
+                }
+            }
+            docs.clear();
+            docByTranslation.clear();
+            keyPostings.clear();
+            contentPostings.clear();
+            retired = 0;
+            live.forEach(this::index);
+        }
+
+        private List<TranslationSearchHitDTO> search(long[] keyQuery, long[] contentQuery, double threshold, int limit) {
+            lock.readLock().lock();
+            try {
+                int[] keyOverlap = overlap(keyPostings, keyQuery);
+                int[] contentOverlap = overlap(contentPostings, contentQuery);
+
+                PriorityQueue<Scored> top = new PriorityQueue<>(Comparator.comparingDouble(s -> s.score));
+                for (int d = 0; d < docs.size(); d++) {
+                    Doc doc = docs.get(d);
+                    if (doc == null || (keyOverlap[d] == 0 && contentOverlap[d] == 0)) {
+                        continue;
+                    }
+                    double score = Math.max(
+                            jaccard(keyOverlap[d], keyQuery.length, doc.keyGrams.length),
+                            jaccard(contentOverlap[d], contentQuery.length, doc.contentGrams.length));
+                    if (score >= threshold) {
+                        top.add(new Scored(doc, score));
+                        if (top.size() > limit) {
+                            top.poll();
+                        }
+                    }
+                }
+
+                List<TranslationSearchHitDTO> hits = new ArrayList<>(top.size());
+                while (!top.isEmpty()) {
+                    Scored scored = top.poll();
+                    FullTranslationExportDTO row = scored.doc.row;
+                    hits.add(new TranslationSearchHitDTO(row.getId(), row.getLocaleCode(), row.getKey(),
+                            row.getContent(), row.getTagName(), row.getUpdatedAt(), (float) scored.score));
+                }
+                Collections.reverse(hits);
+                return hits;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private int[] overlap(Map<Long, Postings> postings, long[] query) {
+            int[] counts = new int[docs.size()];
+            for (long gram : query) {
+                Postings list = postings.get(gram);
+                if (list != null) {
+                    for (int i = 0; i < list.size; i++) {
+                        counts[list.docs[i]]++;
+                    }
+                }
+            }
+            return counts;
+        }
+
+        private static double jaccard(int overlap, int querySize, int docSize) {
+            return overlap == 0 ? 0 : (double) overlap / (querySize + docSize - overlap);
+        }
+    }
+
+    @AllArgsConstructor
+    private static final class Doc {
+        private final FullTranslationExportDTO row;
+        private final long[] keyGrams;
+        private final long[] contentGrams;
+    }
+
+    @AllArgsConstructor
+    private static final class Scored {
+        private final Doc doc;
+        private final double score;
+    }
+
+    private static final class Postings {
+        private int[] docs = new int[4];
+        private int size;
+
+        private void add(int doc) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+            }
+            docs[size++] = doc;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.service.translations.service;
+
+import com.service.translations.dto.CursorPageDTO;
+import com.service.translations.dto.LocaleCoverageDTO;
+import com.service.translations.dto.TranslationKeyDTO;
+
+import java.util.List;
+
+public interface TranslationCoverageService {
+    List<LocaleCoverageDTO> coverage(String tag);
+
+    CursorPageDTO<TranslationKeyDTO> missingKeys(String locale, String tag, String cursor, int size);
+}
@@ -0,0 +1,12 @@
+package com.service.translations.service;
+
+import com.service.translations.dto.TranslationImportResultDTO;
+import com.service.translations.dto.TranslationImportRowDTO;
+
+import java.util.List;
+
+public interface TranslationImportService {
+    TranslationImportResultDTO importRows(List<TranslationImportRowDTO> rows, boolean upsert);
+
+    TranslationImportResultDTO importCsv(String csv, boolean upsert);
+}
@@ -0,0 +1,18 @@
+package com.service.translations.service;
+
+import com.service.translations.dto.CursorPageDTO;
+import com.service.translations.dto.FullTextSearchResultDTO;
+import com.service.translations.dto.TranslationKeyDTO;
+import com.service.translations.dto.TranslationSearchHitDTO;
+
+import java.util.List;
+
+public interface TranslationSearchService {
+    FullTextSearchResultDTO fullText(String locale, String query, String tag, int page, int size);
+
+    List<TranslationSearchHitDTO> fuzzy(String locale, String query, double threshold, int limit);
+
+    List<TranslationSearchHitDTO> similar(String locale, String key, String content, double threshold, int limit);
+
+    CursorPageDTO<TranslationKeyDTO> keys(String locale, String pattern, String tag, String after, int size);
+}
@@ -1,19 +1,29 @@
 package com.service.translations.service;
 
+import com.service.translations.cache.TranslationBundle;
+import com.service.translations.dto.CursorPageDTO;
 import com.service.translations.dto.FullTranslationExportDTO;
+import com.service.translations.dto.TranslationDeltaDTO;
 import com.service.translations.dto.TranslationExportDTO;
+import com.service.translations.dto.TranslationExportVersionDTO;
 import com.service.translations.dto.TranslationRequestDTO;
 import com.service.translations.entity.Translation;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Map;
 
 public interface    TranslationService {
     Translation create(TranslationRequestDTO req);
     Page<Translation> search(String key, String tag, String content, Pageable pageable);
+
+    Slice<FullTranslationExportDTO> searchFlat(String key, String tag, String content, Pageable pageable, boolean withCount);
+
+    CursorPageDTO<FullTranslationExportDTO> searchAfter(String key, String tag, String content, String cursor, int size);
 //    List<TranslationExportDto> exportJson(String locale);
 
 //    @Cacheable("allTranslations")
@@ -23,9 +33,14 @@ public interface    TranslationService {
 
     Page<TranslationExportDTO> exportJson(String locale, String tag, Pageable pageable);
 
-    @Cacheable(value = "allTranslations", key = "{#pageable.pageNumber,#pageable.pageSize}")
+    TranslationExportVersionDTO exportVersion(String locale, String tag);
+
     Page<FullTranslationExportDTO> exportAll(Pageable pageable);
 
+    CursorPageDTO<FullTranslationExportDTO> exportAllAfter(String cursor, int size);
+
+    long streamAll(String locale, OutputStream out) throws IOException;
+
     Translation getById(Long id);
 
     @Transactional
@@ -35,5 +50,9 @@ public interface    TranslationService {
     void delete(Long id);
 
     Map<String, String> exportBundle(String locale, String tag);
+
+    TranslationBundle getBundle(String locale, String tag);
+
+    TranslationDeltaDTO exportDelta(String locale, String tag, String since);
 }
 
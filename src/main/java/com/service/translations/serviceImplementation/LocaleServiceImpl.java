@@ -1,21 +1,29 @@
 package com.service.translations.serviceImplementation;
 
+import com.service.translations.cache.LocaleTagDictionary;
 import com.service.translations.dto.LocaleRequestDTO;
 import com.service.translations.entity.Locale;
+import com.service.translations.event.TranslationsReloadedEvent;
 import com.service.translations.exception.CustomException;
 import com.service.translations.repository.LocaleRepository;
+import com.service.translations.repository.TranslationExportRepository;
 import com.service.translations.service.LocaleService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class LocaleServiceImpl implements LocaleService {
     private final LocaleRepository repo;
+    private final LocaleTagDictionary dictionary;
+    private final TranslationExportRepository exportRepo;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public LocaleRequestDTO create(LocaleRequestDTO dto) {
@@ -28,10 +36,13 @@ public class LocaleServiceImpl implements LocaleService {
         }
 
         Locale locale = Locale.builder().code(dto.getCode().trim()).build();
-        return mapToDto(repo.save(locale));
+        LocaleRequestDTO saved = mapToDto(repo.save(locale));
+        dictionary.refreshAfterCommit();
+        return saved;
     }
 
     @Override
+    @Transactional
     public LocaleRequestDTO update(Long id, LocaleRequestDTO dto) {
         Locale locale = repo.findById(id).orElseThrow(() -> new CustomException("Locale not found"));
 
@@ -44,14 +55,22 @@ public class LocaleServiceImpl implements LocaleService {
             throw new CustomException("Locale with this code already exists");
         }
 
+        String previous = locale.getCode();
         locale.setCode(dto.getCode().trim());
-        return mapToDto(repo.save(locale));
+        // Flushed so the export read model, rebuilt from the locale table in this transaction, sees the new code
+        LocaleRequestDTO saved = mapToDto(repo.saveAndFlush(locale));
+        if (!previous.equals(locale.getCode())) {
+            eventPublisher.publishEvent(new TranslationsReloadedEvent(Set.of(previous, locale.getCode())));
+        }
+        dictionary.refreshAfterCommit();
+        return saved;
     }
 
     @Override
     public void delete(Long id) {
         if (!repo.existsById(id)) throw new CustomException("Locale not found");
         repo.deleteById(id);
+        dictionary.refreshAfterCommit();
     }
 
     @Override
@@ -1,21 +1,29 @@
 package com.service.translations.serviceImplementation;
 
+import com.service.translations.cache.LocaleTagDictionary;
 import com.service.translations.dto.TagRequestDTO;
 import com.service.translations.entity.Tag;
+import com.service.translations.event.TranslationsReloadedEvent;
 import com.service.translations.exception.CustomException;
 import com.service.translations.repository.TagRepository;
+import com.service.translations.repository.TranslationExportRepository;
 import com.service.translations.service.TagService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class TagServiceImpl implements TagService {
     private final TagRepository repo;
+    private final LocaleTagDictionary dictionary;
+    private final TranslationExportRepository exportRepo;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public TagRequestDTO create(TagRequestDTO dto) {
@@ -28,10 +36,13 @@ public class TagServiceImpl implements TagService {
         }
 
         Tag tag = Tag.builder().name(dto.getName().trim()).build();
-        return mapToDto(repo.save(tag));
+        TagRequestDTO saved = mapToDto(repo.save(tag));
+        dictionary.refreshAfterCommit();
+        return saved;
     }
 
     @Override
+    @Transactional
     public TagRequestDTO update(Long id, TagRequestDTO dto) {
         Tag tag = repo.findById(id).orElseThrow(() -> new CustomException("Tag not found"));
 
@@ -44,8 +55,16 @@ public class TagServiceImpl implements TagService {
             throw new CustomException("Tag with this name already exists");
         }
 
+        String previous = tag.getName();
+        Set<String> locales = exportRepo.findLocaleCodesByTag(previous);
         tag.setName(dto.getName().trim());
-        return mapToDto(repo.save(tag));
+        // Flushed so the export read model, rebuilt from the tags table in this transaction, sees the new name
+        TagRequestDTO saved = mapToDto(repo.saveAndFlush(tag));
+        if (!previous.equals(tag.getName()) && !locales.isEmpty()) {
+            eventPublisher.publishEvent(new TranslationsReloadedEvent(locales));
+        }
+        dictionary.refreshAfterCommit();
+        return saved;
     }
 
 
@@ -53,6 +72,7 @@ public class TagServiceImpl implements TagService {
     public void delete(Long id) {
         if (!repo.existsById(id)) throw new CustomException("Tag not found");
         repo.deleteById(id);
+        dictionary.refreshAfterCommit();
     }
 
     @Override
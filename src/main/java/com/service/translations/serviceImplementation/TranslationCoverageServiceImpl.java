@@ -0,0 +1,59 @@
+package com.service.translations.serviceImplementation;
+
+import com.service.translations.cache.LocaleTagDictionary;
+import com.service.translations.cache.TranslationCoverageIndex;
+import com.service.translations.dto.CursorPageDTO;
+import com.service.translations.dto.LocaleCoverageDTO;
+import com.service.translations.dto.TranslationKeyDTO;
+import com.service.translations.entity.Locale;
+import com.service.translations.exception.CustomException;
+import com.service.translations.service.TranslationCoverageService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class TranslationCoverageServiceImpl implements TranslationCoverageService {
+
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    private final TranslationCoverageIndex coverageIndex;
+    private final LocaleTagDictionary dictionary;
+
+    @Override
+    public List<LocaleCoverageDTO> coverage(String tag) {
+        String tagName = requireTag(tag);
+        List<String> locales = dictionary.locales().stream()
+                .map(Locale::getCode)
+                .sorted()
+                .collect(Collectors.toList());
+        return coverageIndex.completeness(locales, tagName);
+    }
+
+    @Override
+    public CursorPageDTO<TranslationKeyDTO> missingKeys(String locale, String tag, String cursor, int size) {
+        if (dictionary.locale(locale).isEmpty()) {
+            throw new CustomException("Locale not found: " + locale);
+        }
+        if (locale.equals(coverageIndex.getReferenceLocale())) {
+            throw new CustomException("Locale " + locale + " is the reference locale");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new CustomException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        return coverageIndex.missing(locale, requireTag(tag), cursor, size);
+    }
+
+    private String requireTag(String tag) {
+        if (tag == null || tag.isEmpty()) {
+            return null;
+        }
+        if (dictionary.tag(tag).isEmpty()) {
+            throw new CustomException("Tag not found: " + tag);
+        }
+        return tag;
+    }
+}
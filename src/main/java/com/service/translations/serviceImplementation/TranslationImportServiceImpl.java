@@ -0,0 +1,251 @@
+package com.service.translations.serviceImplementation;
+
+import com.service.translations.cache.LocaleTagDictionary;
+import com.service.translations.dto.FullTranslationExportDTO;
+import com.service.translations.dto.TranslationImportResultDTO;
+import com.service.translations.dto.TranslationImportResultDTO.RowError;
+import com.service.translations.dto.TranslationImportRowDTO;
+import com.service.translations.entity.Locale;
+import com.service.translations.entity.Tag;
+import com.service.translations.entity.Translation;
+import com.service.translations.event.TranslationChangedEvent;
+import com.service.translations.event.TranslationsBatchChangedEvent;
+import com.service.translations.exception.CustomException;
+import com.service.translations.repository.TranslationRepository;
+import com.service.translations.service.TranslationImportService;
+import com.service.translations.util.CsvReader;
+import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class TranslationImportServiceImpl implements TranslationImportService {
+
+    private static final String DUPLICATE_MESSAGE = "Duplicate translation key for the selected locale and tag";
+
+    private final TranslationRepository repo;
+    private final LocaleTagDictionary dictionary;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${translations.import.batch-size:500}")
+    private int batchSize;
+
+    @Value("${translations.import.max-rows:100000}")
+    private int maxRows;
+
+    @Override
+    public TranslationImportResultDTO importCsv(String csv, boolean upsert) {
+        List<List<String>> records = CsvReader.read(csv == null ? "" : csv);
+        if (records.isEmpty()) {
+            throw new CustomException("Import contains no rows");
+        }
+
+        Map<String, Integer> columns = new HashMap<>();
+        List<String> header = records.get(0);
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().toLowerCase(), i);
+        }
+        for (String required : List.of("key", "locale", "tag", "content")) {
+            if (!columns.containsKey(required)) {
+                throw new CustomException("Invalid CSV: missing column '" + required + "'");
+            }
+        }
+
+        List<TranslationImportRowDTO> rows = records.subList(1, records.size()).stream()
+                .map(record -> new TranslationImportRowDTO(
+                        column(record, columns.get("key")),
+                        column(record, columns.get("locale")),
+                        column(record, columns.get("tag")),
+                        column(record, columns.get("content"))))
+                .collect(Collectors.toList());
+        return importRows(rows, upsert);
+    }
+
+    @Override
+    public TranslationImportResultDTO importRows(List<TranslationImportRowDTO> rows, boolean upsert) {
+        if (rows == null || rows.isEmpty()) {
+            throw new CustomException("Import contains no rows");
+        }
+        if (rows.size() > maxRows) {
+            throw new CustomException("Import exceeds the limit of " + maxRows + " rows");
+        }
+
+        List<RowError> errors = new ArrayList<>();
+        List<PendingRow> pending = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i < rows.size(); i++) {
+            int rowNumber = i + 1;
+            TranslationImportRowDTO row = rows.get(i);
+            String key = isBlank(row.getKey()) ? null : row.getKey().trim().toLowerCase();
+            Locale locale = isBlank(row.getLocale()) ? null : dictionary.locale(row.getLocale().trim()).orElse(null);
+            Tag tag = isBlank(row.getTag()) ? null : dictionary.tag(row.getTag().trim()).orElse(null);
+
+            if (key == null || isBlank(row.getContent())) {
+                errors.add(new RowError(rowNumber, row.getKey(), "Key and content must not be blank"));
+            } else if (locale == null) {
+                errors.add(new RowError(rowNumber, row.getKey(), "Locale not found: " + row.getLocale()));
+            } else if (tag == null) {
+                errors.add(new RowError(rowNumber, row.getKey(), "Tag not found: " + row.getTag()));
+            } else if (!seen.add(slot(key, locale.getId(), tag.getId()))) {
+                errors.add(new RowError(rowNumber, row.getKey(), "Key repeated within the import"));
+            } else {
+                pending.add(new PendingRow(rowNumber, key, locale, tag, row.getContent()));
+            }
+        }
+
+        int inserted = 0;
+        int updated = 0;
+        for (int from = 0; from < pending.size(); from += batchSize) {
+            List<PendingRow> chunk = pending.subList(from, Math.min(from + batchSize, pending.size()));
+            List<ChunkResult> results = new ArrayList<>();
+            try {
+                results.add(transactionTemplate.execute(status -> writeChunk(chunk, upsert)));
+            } catch (RuntimeException chunkFailure) {
+                // Replay the failed chunk row by row so only the offending rows are reported
+                for (PendingRow row : chunk) {
+                    try {
+                        results.add(transactionTemplate.execute(status -> writeChunk(List.of(row), upsert)));
+                    } catch (RuntimeException rowFailure) {
+                        errors.add(new RowError(row.rowNumber, row.key, failureMessage(rowFailure)));
+                    }
+                }
+            }
+            for (ChunkResult result : results) {
+                inserted += result.inserted;
+                updated += result.updated;
+                errors.addAll(result.errors);
+            }
+        }
+
+        errors.sort(Comparator.comparingInt(RowError::getRow));
+        return new TranslationImportResultDTO(rows.size(), inserted, updated, errors.size(), errors);
+    }
+
+    private ChunkResult writeChunk(List<PendingRow> chunk, boolean upsert) {
+        Set<Locale> chunkLocales = chunk.stream().map(row -> row.locale).collect(Collectors.toSet());
+        Set<String> chunkKeys = chunk.stream().map(row -> row.key).collect(Collectors.toSet());
+
+        Map<String, Translation> existing = new HashMap<>();
+        for (Translation t : repo.findByLocaleInAndKeyIn(chunkLocales, chunkKeys)) {
+            if (t.getTag() != null) {
+                existing.put(slot(t.getKey(), t.getLocale().getId(), t.getTag().getId()), t);
+            }
+        }
+
+        ChunkResult result = new ChunkResult();
+        List<Translation> created = new ArrayList<>();
+        List<PendingRow> createdRows = new ArrayList<>();
+        List<Translation> changed = new ArrayList<>();
+        List<FullTranslationExportDTO> changedBefore = new ArrayList<>();
+        for (PendingRow row : chunk) {
+            Translation current = existing.get(slot(row.key, row.locale.getId(), row.tag.getId()));
+            if (current == null) {
+                Translation t = Translation.builder()
+                        .key(row.key)
+                        .content(row.content)
+                        .locale(row.locale)
+                        .tag(row.tag)
+                        .build();
+                entityManager.persist(t);
+                created.add(t);
+                createdRows.add(row);
+            } else if (upsert) {
+                changedBefore.add(snapshot(current, row));
+                current.setContent(row.content);
+                changed.add(current);
+            } else {
+                result.errors.add(new RowError(row.rowNumber, row.key, DUPLICATE_MESSAGE));
+            }
+        }
+
+        // Inserts and updates leave as JDBC batches here; the context is cleared to keep memory flat
+        entityManager.flush();
+
+        List<TranslationChangedEvent> changes = new ArrayList<>();
+        for (int i = 0; i < created.size(); i++) {
+            changes.add(TranslationChangedEvent.created(snapshot(created.get(i), createdRows.get(i))));
+        }
+        for (int i = 0; i < changed.size(); i++) {
+            FullTranslationExportDTO before = changedBefore.get(i);
+            Translation after = changed.get(i);
+            changes.add(TranslationChangedEvent.updated(before, new FullTranslationExportDTO(after.getId(),
+                    before.getLocaleCode(), before.getKey(), after.getContent(), before.getTagName(), after.getUpdatedAt())));
+        }
+        entityManager.clear();
+        if (!changes.isEmpty()) {
+            eventPublisher.publishEvent(new TranslationsBatchChangedEvent(changes));
+        }
+
+        result.inserted = created.size();
+        result.updated = changed.size();
+        return result;
+    }
+
+    private static FullTranslationExportDTO snapshot(Translation t, PendingRow row) {
+        return new FullTranslationExportDTO(t.getId(), row.locale.getCode(), t.getKey(), t.getContent(),
+                row.tag.getName(), t.getUpdatedAt());
+    }
+
+    private static String slot(String key, Long localeId, Long tagId) {
+        return key + '\u0000' + localeId + '\u0000' + tagId;
+    }
+
+    private static String column(List<String> record, int index) {
+        return index < record.size() ? record.get(index) : null;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    // A concurrent writer can claim a slot between the lookup and the insert
+    private static String failureMessage(Throwable e) {
+        String message = rootMessage(e);
+        if (message != null && message.toLowerCase().contains(Translation.UNIQUE_SLOT)) {
+            return DUPLICATE_MESSAGE;
+        }
+        return message;
+    }
+
+    private static String rootMessage(Throwable e) {
+        Throwable root = e;
+        while (root.getCause() != null) {
+            root = root.getCause();
+        }
+        return root.getMessage();
+    }
+
+    @AllArgsConstructor
+    private static class PendingRow {
+        private final int rowNumber;
+        private final String key;
+        private final Locale locale;
+        private final Tag tag;
+        private final String content;
+    }
+
+    private static class ChunkResult {
+        private int inserted;
+        private int updated;
+        private final List<RowError> errors = new ArrayList<>();
+    }
+}
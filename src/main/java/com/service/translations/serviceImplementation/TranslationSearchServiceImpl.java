@@ -0,0 +1,97 @@
+package com.service.translations.serviceImplementation;
+
+import com.service.translations.cache.LocaleTagDictionary;
+import com.service.translations.dto.CursorPageDTO;
+import com.service.translations.dto.FullTextSearchResultDTO;
+import com.service.translations.dto.TranslationKeyDTO;
+import com.service.translations.dto.TranslationSearchHitDTO;
+import com.service.translations.exception.CustomException;
+import com.service.translations.search.TranslationKeyIndex;
+import com.service.translations.search.TranslationSearchIndex;
+import com.service.translations.search.TranslationSimilarityIndex;
+import com.service.translations.service.TranslationSearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class TranslationSearchServiceImpl implements TranslationSearchService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_WINDOW = 10_000;
+    private static final int MAX_KEYS_PAGE_SIZE = 1000;
+    private static final int MAX_SIMILAR_RESULTS = 100;
+
+    private final TranslationSearchIndex index;
+    private final TranslationKeyIndex keyIndex;
+    private final TranslationSimilarityIndex similarityIndex;
+    private final LocaleTagDictionary dictionary;
+
+    @Override
+    public FullTextSearchResultDTO fullText(String locale, String query, String tag, int page, int size) {
+        if (query == null || query.isBlank()) {
+            throw new CustomException("Search query must not be empty");
+        }
+        requireLocale(locale);
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new CustomException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        // Each page re-collects every hit before it, so deep pages are capped
+        if (page < 0 || (page + 1L) * size > MAX_WINDOW) {
+            throw new CustomException("Results beyond the first " + MAX_WINDOW + " hits are not available");
+        }
+
+        try {
+            return index.search(locale, query, tag, page, size);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public List<TranslationSearchHitDTO> fuzzy(String locale, String query, double threshold, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new CustomException("Search query must not be empty");
+        }
+        requireSimilarityBounds(locale, threshold, limit);
+        return similarityIndex.similar(locale, query, query, threshold, limit);
+    }
+
+    @Override
+    public List<TranslationSearchHitDTO> similar(String locale, String key, String content, double threshold, int limit) {
+        if ((key == null || key.isBlank()) && (content == null || content.isBlank())) {
+            throw new CustomException("Key or content is required");
+        }
+        requireSimilarityBounds(locale, threshold, limit);
+        return similarityIndex.similar(locale, key, content, threshold, limit);
+    }
+
+    @Override
+    public CursorPageDTO<TranslationKeyDTO> keys(String locale, String pattern, String tag, String after, int size) {
+        requireLocale(locale);
+        if (size < 1 || size > MAX_KEYS_PAGE_SIZE) {
+            throw new CustomException("Page size must be between 1 and " + MAX_KEYS_PAGE_SIZE);
+        }
+        return keyIndex.find(locale, pattern, tag, after, size);
+    }
+
+    private void requireSimilarityBounds(String locale, double threshold, int limit) {
+        requireLocale(locale);
+        if (threshold <= 0 || threshold > 1) {
+            throw new CustomException("Threshold must be greater than 0 and at most 1");
+        }
+        if (limit < 1 || limit > MAX_SIMILAR_RESULTS) {
+            throw new CustomException("Limit must be between 1 and " + MAX_SIMILAR_RESULTS);
+        }
+    }
+
+    private void requireLocale(String locale) {
+        if (dictionary.locale(locale).isEmpty()) {
+            throw new CustomException("Locale not found: " + locale);
+        }
+    }
+}
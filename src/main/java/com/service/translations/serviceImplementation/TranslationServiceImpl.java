@@ -1,49 +1,111 @@
 package com.service.translations.serviceImplementation;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.service.translations.cache.BundleKey;
+import com.service.translations.cache.LocaleTagDictionary;
+import com.service.translations.cache.TranslationBundle;
+import com.service.translations.cache.TranslationBundleStore;
+import com.service.translations.config.CacheConfig;
+import com.service.translations.dto.CursorPageDTO;
 import com.service.translations.dto.FullTranslationExportDTO;
+import com.service.translations.dto.TranslationDeltaDTO;
 import com.service.translations.dto.TranslationExportDTO;
+import com.service.translations.dto.TranslationExportVersionDTO;
 import com.service.translations.dto.TranslationRequestDTO;
 import com.service.translations.entity.Locale;
 import com.service.translations.entity.Tag;
 import com.service.translations.entity.Translation;
+import com.service.translations.entity.TranslationTombstone;
+import com.service.translations.event.TranslationChangedEvent;
 import com.service.translations.exception.CustomException;
-import com.service.translations.repository.LocaleRepository;
-import com.service.translations.repository.TagRepository;
+import com.service.translations.repository.TranslationExportRepository;
 import com.service.translations.repository.TranslationRepository;
+import com.service.translations.repository.TranslationTombstoneRepository;
 import com.service.translations.service.TranslationService;
+import com.service.translations.util.KeysetCursor;
+import com.service.translations.util.SingleFlight;
+import com.service.translations.util.SyncToken;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class TranslationServiceImpl implements TranslationService {
 
+    // Matches the default page of the offset export, so cursor pages are never larger than that
+    private static final int MAX_PAGE_SIZE = 10_000;
+    private static final Sort KEYSET_ORDER = Sort.by(Sort.Order.desc("updatedAt"), Sort.Order.desc("id"));
+
     private final TranslationRepository repo;
+    private final TranslationExportRepository exportRepo;
+    private final TranslationTombstoneRepository tombstoneRepository;
+
+    private final LocaleTagDictionary dictionary;
+
+    private final TranslationBundleStore bundleStore;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final CacheManager cacheManager;
+
+    private final SingleFlight<List<Object>, TranslationBundle> bundleFlights = new SingleFlight<>();
+    private final SingleFlight<List<Object>, Page<TranslationExportDTO>> exportPageFlights = new SingleFlight<>();
+    private final SingleFlight<List<Object>, Page<FullTranslationExportDTO>> exportAllFlights = new SingleFlight<>();
+
+    // Rows are stamped before their transaction commits, so deltas re-read this window behind the token;
+    // a row whose transaction commits later than this after it was stamped can be missed by delta clients
+    @Value("${translations.sync.overlap:2s}")
+    private Duration syncOverlap;
 
-    private final LocaleRepository localeRepository;
-    private final TagRepository tagRepository;
+    // Deletes older than this have no tombstone left, so older tokens are answered with a full resync
+    @Value("${translations.sync.tombstone-retention:30d}")
+    private Duration tombstoneRetention;
 
     @Override
+    @Transactional
     public Translation create(TranslationRequestDTO req) {
-        Locale locale = localeRepository.findById(req.getLocaleId())
+        Locale locale = dictionary.locale(req.getLocaleId())
                 .orElseThrow(() -> new CustomException("Locale not found"));
 
-        Tag tag = tagRepository.findById(req.getTagId())
+        Tag tag = dictionary.tag(req.getTagId())
                 .orElseThrow(() -> new CustomException("tag not found"));
 
-        boolean exists = repo.existsByKeyIgnoreCaseAndLocaleAndTag(req.getKey(), locale, tag);
-        if (exists) {
-            throw new CustomException("Duplicate translation key for the selected locale and tag");
-        }
         String normalizedKey = req.getKey().trim().toLowerCase();
         Translation t = Translation.builder()
                 .key(normalizedKey)
@@ -52,11 +114,43 @@ public class TranslationServiceImpl implements TranslationService {
                 .tag(tag)
                 .build();
 
-        return repo.save(t);
+        // Uniqueness is left to the database constraint, so the insert is the only write round trip
+        Translation saved = saveAndFlush(t);
+        eventPublisher.publishEvent(TranslationChangedEvent.created(toSnapshot(saved)));
+        return saved;
     }
 
     @Override
     public Page<Translation> search(String key, String tag, String content, Pageable pageable) {
+        return repo.findAll(searchSpec(key, tag, content), pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<FullTranslationExportDTO> searchFlat(String key, String tag, String content, Pageable pageable,
+                                                      boolean withCount) {
+        return repo.findFlat(searchSpec(key, tag, content), pageable, withCount);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDTO<FullTranslationExportDTO> searchAfter(String key, String tag, String content, String cursor,
+                                                               int size) {
+        requirePageSize(size);
+        Specification<Translation> spec = searchSpec(key, tag, content);
+        if (cursor != null && !cursor.isEmpty()) {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            spec = spec.and((root, query, cb) -> cb.and(
+                    cb.lessThanOrEqualTo(root.get("updatedAt"), after.getUpdatedAt()),
+                    cb.or(cb.lessThan(root.get("updatedAt"), after.getUpdatedAt()),
+                            cb.lessThan(root.get("id"), after.getId()))));
+        }
+
+        Slice<FullTranslationExportDTO> rows = repo.findFlat(spec, PageRequest.of(0, size, KEYSET_ORDER), false);
+        return toCursorPage(rows.getContent(), rows.hasNext(), row -> new KeysetCursor(row.getUpdatedAt(), row.getId()));
+    }
+
+    private Specification<Translation> searchSpec(String key, String tag, String content) {
         Specification<Translation> spec = Specification.where(null);
 
         if (key != null && !key.isEmpty()) {
@@ -74,7 +168,7 @@ public class TranslationServiceImpl implements TranslationService {
                     cb.equal(cb.lower(root.get("content")), content.toLowerCase()));
         }
 
-        return repo.findAll(spec, pageable);
+        return spec;
     }
 
 
@@ -90,39 +184,223 @@ public class TranslationServiceImpl implements TranslationService {
 
     @Override
     public Page<TranslationExportDTO> exportJson(String locale, String tagName, Pageable pageable) {
-        Page<TranslationExportDTO> page;
+        List<Object> key = Arrays.asList(locale, tagName, pageable, bundleStore.epoch(locale));
+        return cachedPage(CacheConfig.LOCALE_TRANSLATIONS, key, pageable, exportPageFlights, () -> {
+            Page<TranslationExportDTO> page;
+
+            if (tagName != null && !tagName.isEmpty()) {
+                Tag tag = dictionary.tag(tagName)
+                        .orElseThrow(() -> new CustomException("Tag not found: " + tagName));
+                page = exportRepo.findAllByLocaleCodeAndTag(locale, tag.getName(), pageable);
+            } else {
+                page = exportRepo.findAllByLocaleCode(locale, pageable);
+            }
+
+            if (page.isEmpty()) {
+                throw new CustomException("No translations found for locale: " + locale + (tagName != null ? " and tag: " + tagName : ""));
+            }
+
+            return page;
+        });
+    }
 
-        if (tagName != null && !tagName.isEmpty()) {
-            Tag tag = tagRepository.findByName(tagName)
-                    .orElseThrow(() -> new CustomException("Tag not found: " + tagName));
-            page = repo.findAllByLocaleCodeAndTag(locale, tag, pageable); // now passing Tag entity
-        } else {
-            page = repo.findAllByLocaleCode(locale, pageable);
-        }
 
-        if (page.isEmpty()) {
-            throw new CustomException("No translations found for locale: " + locale + (tagName != null ? " and tag: " + tagName : ""));
+    @Override
+    @Transactional(readOnly = true)
+    public TranslationExportVersionDTO exportVersion(String locale, String tag) {
+        BundleKey bundleKey = BundleKey.normalized(locale, tag);
+        TranslationExportVersionDTO version = bundleKey.isAllTags()
+                ? exportRepo.findVersionByLocaleCode(locale)
+                : exportRepo.findVersionByLocaleCodeAndTag(locale, bundleKey.getTag());
+        version.setLastModified(lastModified(bundleKey, version.getLastModified()));
+        return version;
+    }
+
+    @Override
+    public Map<String, String> exportBundle(String locale, String tag) {
+        return getBundle(locale, tag).getEntries();
+    }
+
+    @Override
+    public TranslationBundle getBundle(String locale, String tag) {
+        BundleKey bundleKey = BundleKey.normalized(locale, tag);
+        TranslationBundle cached = bundleStore.get(bundleKey);
+        if (cached != null) {
+            return cached;
         }
 
-        return page;
+        // One build per bundle and write epoch: callers arriving after a write never join a load that predates it
+        long epoch = bundleStore.epoch(locale);
+        return bundleFlights.run(Arrays.asList(bundleKey, epoch), () -> {
+            TranslationBundle installed = bundleStore.get(bundleKey);
+            if (installed != null) {
+                return installed;
+            }
+
+            Pageable all = Pageable.unpaged(); // no pagination, fetch all
+            Page<TranslationExportDTO> page = exportJson(locale, tag, all);
+
+            // Rows come newest first, so on a key shared by several tags the most recent content wins
+            Map<String, String> entries = page.getContent().stream()
+                    .collect(Collectors.toMap(TranslationExportDTO::getKey, TranslationExportDTO::getContent,
+                            (newer, older) -> newer, HashMap::new));
+            LocalDateTime newest = lastModified(bundleKey, page.getContent().get(0).getUpdatedAt());
+            Instant lastModified = newest != null ? newest.atZone(ZoneId.systemDefault()).toInstant() : Instant.now();
+            return bundleStore.install(bundleKey, entries, lastModified, epoch);
+        });
     }
 
 
-    public Map<String, String> exportBundle(String locale, String tag) {
-        Pageable all = Pageable.unpaged(); // no pagination, fetch all
-        Page<TranslationExportDTO> page = exportJson(locale, tag, all);
+    // Deletes leave no row behind, so without the newest tombstone a rebuilt bundle could claim to be
+    // older than the copy a client already holds and answer its If-Modified-Since with a stale 304
+    private LocalDateTime lastModified(BundleKey bundleKey, LocalDateTime newestRow) {
+        LocalDateTime lastDeleted = bundleKey.isAllTags()
+                ? tombstoneRepository.findLastDeletedAt(bundleKey.getLocale())
+                : tombstoneRepository.findLastDeletedAtByTag(bundleKey.getLocale(), bundleKey.getTag());
+        if (newestRow == null) {
+            return lastDeleted;
+        }
+        return latest(newestRow, lastDeleted);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TranslationDeltaDTO exportDelta(String locale, String tag, String since) {
+        LocalDateTime sinceTime = SyncToken.decode(since);
+        if (sinceTime.isBefore(LocalDateTime.now().minus(tombstoneRetention))) {
+            return fullResync(locale, tag);
+        }
+        LocalDateTime from = sinceTime.minus(syncOverlap);
+        boolean tagged = tag != null && !tag.isEmpty();
+
+        List<TranslationExportDTO> changed = tagged
+                ? exportRepo.findChangedSinceByTag(locale, tag, from)
+                : exportRepo.findChangedSince(locale, from);
+        List<TranslationTombstone> tombstones = tagged
+                ? tombstoneRepository.findByLocaleCodeAndTagNameAndDeletedAtAfter(locale, tag, from)
+                : tombstoneRepository.findByLocaleCodeAndDeletedAtAfter(locale, from);
+
+        LocalDateTime next = sinceTime;
+        Map<String, String> upserts = new LinkedHashMap<>();
+        for (TranslationExportDTO row : changed) {
+            upserts.put(row.getKey(), row.getContent());
+            next = latest(next, row.getUpdatedAt());
+        }
+
+        // A key is only dropped if no row in scope still carries it, e.g. under another tag
+        Map<String, String> current = currentEntries(locale, tag);
+        Set<String> deletes = new LinkedHashSet<>();
+        for (TranslationTombstone tombstone : tombstones) {
+            next = latest(next, tombstone.getDeletedAt());
+            if (!upserts.containsKey(tombstone.getKey()) && !current.containsKey(tombstone.getKey())) {
+                deletes.add(tombstone.getKey());
+            }
+        }
 
-        return page.getContent().stream()
-                .collect(Collectors.toMap(TranslationExportDTO::getKey, TranslationExportDTO::getContent));
+        return new TranslationDeltaDTO(upserts, new ArrayList<>(deletes), SyncToken.encode(next), false);
     }
 
+    private TranslationDeltaDTO fullResync(String locale, String tag) {
+        try {
+            TranslationBundle bundle = getBundle(locale, tag);
+            return new TranslationDeltaDTO(new LinkedHashMap<>(bundle.getEntries()), List.of(),
+                    SyncToken.encode(bundle.getLastModified()), true);
+        } catch (CustomException e) {
+            // Everything in scope has been deleted
+            return new TranslationDeltaDTO(Map.of(), List.of(), SyncToken.encode(LocalDateTime.now()), true);
+        }
+    }
+
+    private Map<String, String> currentEntries(String locale, String tag) {
+        try {
+            return getBundle(locale, tag).getEntries();
+        } catch (CustomException e) {
+            // Everything in scope has been deleted
+            return Collections.emptyMap();
+        }
+    }
+
+    private static LocalDateTime latest(LocalDateTime a, LocalDateTime b) {
+        return b != null && b.isAfter(a) ? b : a;
+    }
 
     // In TranslationServiceImpl.java
     @Override
-    @Cacheable(value = "allTranslations", key = "{#pageable.pageNumber,#pageable.pageSize}",
-            unless = "#result.getContent().size() == 0")
     public Page<FullTranslationExportDTO> exportAll(Pageable pageable) {
-        return repo.findAllForExport(pageable);
+        List<Object> key = Arrays.asList(pageable, bundleStore.epoch());
+        return cachedPage(CacheConfig.ALL_TRANSLATIONS, key, pageable, exportAllFlights,
+                () -> exportRepo.findAllForExport(pageable));
+    }
+
+    // Keys carry the write epoch read before the query, so nothing is evicted on writes: a committed write moves
+    // the epoch and later reads ask for new keys, while pages under old epochs age out by size and TTL. A read
+    // still running when a write commits stores its page under the old epoch too. Concurrent misses share one query
+    @SuppressWarnings("unchecked")
+    private <T> Page<T> cachedPage(String cacheName, List<Object> key, Pageable pageable,
+                                   SingleFlight<List<Object>, Page<T>> flights, Supplier<Page<T>> loader) {
+        Cache cache = Objects.requireNonNull(cacheManager.getCache(cacheName));
+        Page<T> cached = pageable.isPaged() ? cache.get(key, Page.class) : null;
+        if (cached != null) {
+            return cached;
+        }
+        Page<T> page = flights.run(key, loader);
+        if (pageable.isPaged() && page.hasContent()) {
+            cache.put(key, page);
+        }
+        return page;
+    }
+
+    @Override
+    public CursorPageDTO<FullTranslationExportDTO> exportAllAfter(String cursor, int size) {
+        requirePageSize(size);
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<FullTranslationExportDTO> rows;
+        if (cursor == null || cursor.isEmpty()) {
+            rows = exportRepo.findFirstForExport(limit);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            rows = exportRepo.findNextForExport(after.getUpdatedAt(), after.getId(), limit);
+        }
+        // One extra row is fetched to learn whether another page exists
+        boolean hasMore = rows.size() > size;
+        return toCursorPage(hasMore ? rows.subList(0, size) : rows, hasMore,
+                row -> new KeysetCursor(row.getUpdatedAt(), row.getId()));
+    }
+
+    private static void requirePageSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new CustomException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
+
+    private static <T> CursorPageDTO<T> toCursorPage(List<T> content, boolean hasMore, Function<T, KeysetCursor> cursorOf) {
+        String next = hasMore ? cursorOf.apply(content.get(content.size() - 1)).encode() : null;
+        return new CursorPageDTO<>(content, content.size(), hasMore, next);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long streamAll(String locale, OutputStream out) throws IOException {
+        long rows = 0;
+        try (Stream<FullTranslationExportDTO> stream = locale != null && !locale.isEmpty()
+                ? exportRepo.streamAllByLocale(locale)
+                : exportRepo.streamAllForExport();
+             JsonGenerator json = objectMapper.getFactory().createGenerator(out)
+                     .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+
+            // Rows are written as the cursor advances; nothing but the current row is held in memory
+            json.writeStartObject();
+            json.writeArrayFieldStart("translations");
+            Iterator<FullTranslationExportDTO> it = stream.iterator();
+            while (it.hasNext()) {
+                json.writeObject(it.next());
+                rows++;
+            }
+            json.writeEndArray();
+            json.writeNumberField("totalItems", rows);
+            json.writeEndObject();
+        }
+        return rows;
     }
 
 //    @Override
@@ -146,26 +424,30 @@ public class TranslationServiceImpl implements TranslationService {
     public Translation update(Long id, TranslationRequestDTO req) {
         Translation existing = repo.findById(id)
                 .orElseThrow(() -> new CustomException("Translation not found with ID: " + id));
+        FullTranslationExportDTO before = toSnapshot(existing);
 
-        Locale locale = localeRepository.findById(req.getLocaleId())
+        Locale locale = dictionary.locale(req.getLocaleId())
                 .orElseThrow(() -> new CustomException("Locale not found"));
 
-        Tag tag = tagRepository.findById(req.getTagId())
+        Tag tag = dictionary.tag(req.getTagId())
                 .orElseThrow(() -> new CustomException("Tag not found"));
 
         String normalizedKey = req.getKey().trim().toLowerCase();
 
-        boolean duplicateExists = repo.existsByKeyIgnoreCaseAndLocaleAndTagAndIdNot(normalizedKey, locale, tag, id);
-        if (duplicateExists) {
-            throw new CustomException("Duplicate translation key for the selected locale and tag");
-        }
-
         existing.setKey(normalizedKey);
         existing.setContent(req.getContent());
         existing.setLocale(locale);
         existing.setTag(tag);
 
-        return repo.save(existing);
+        // Flush so the snapshot carries the refreshed updatedAt
+        Translation saved = saveAndFlush(existing);
+        if (!Objects.equals(before.getLocaleCode(), locale.getCode())
+                || !Objects.equals(before.getTagName(), tag.getName())
+                || !Objects.equals(before.getKey(), normalizedKey)) {
+            recordTombstone(before);
+        }
+        eventPublisher.publishEvent(TranslationChangedEvent.updated(before, toSnapshot(saved)));
+        return saved;
     }
 
     @Override
@@ -174,7 +456,47 @@ public class TranslationServiceImpl implements TranslationService {
         Translation translation = repo.findById(id)
                 .orElseThrow(() -> new CustomException("Translation not found with ID: " + id));
 
+        FullTranslationExportDTO before = toSnapshot(translation);
         repo.delete(translation);
+        recordTombstone(before);
+        eventPublisher.publishEvent(TranslationChangedEvent.deleted(before));
+    }
+
+    private Translation saveAndFlush(Translation translation) {
+        try {
+            return repo.saveAndFlush(translation);
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicateSlot(e)) {
+                throw new CustomException("Duplicate translation key for the selected locale and tag");
+            }
+            throw e;
+        }
+    }
+
+    private static boolean isDuplicateSlot(DataIntegrityViolationException e) {
+        return e.getCause() instanceof ConstraintViolationException violation
+                && violation.getConstraintName() != null
+                && violation.getConstraintName().toLowerCase().contains(Translation.UNIQUE_SLOT);
+    }
+
+    private void recordTombstone(FullTranslationExportDTO removed) {
+        tombstoneRepository.save(TranslationTombstone.builder()
+                .translationId(removed.getId())
+                .key(removed.getKey())
+                .localeCode(removed.getLocaleCode())
+                .tagName(removed.getTagName())
+                .deletedAt(LocalDateTime.now())
+                .build());
+    }
+
+    private FullTranslationExportDTO toSnapshot(Translation t) {
+        return new FullTranslationExportDTO(
+                t.getId(),
+                t.getLocale().getCode(),
+                t.getKey(),
+                t.getContent(),
+                t.getTag() != null ? t.getTag().getName() : null,
+                t.getUpdatedAt());
     }
 
 
@@ -0,0 +1,102 @@
+package com.service.translations.util;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * HMAC-SHA256 signatures for public, content-addressed bundle URLs.
+ * <p>
+ * Expiry times are rounded up to a whole bucket so every client asking within the same bucket is
+ * handed the same URL, which keeps edge caches from splitting one bundle across many cache keys.
+ * <p>
+ * The signing secret is its own: sharing {@code jwt.secret} would let anyone who learns one forge the other.
+ */
+@Component
+public class BundleUrlSigner {
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    @Getter
+    private final boolean enabled;
+    // Null while public bundles are disabled
+    private final SecretKeySpec key;
+    private final Duration ttl;
+    private final Duration bucket;
+    private final String baseUrl;
+
+    public BundleUrlSigner(@Value("${translations.public-bundles.enabled:false}") boolean enabled,
+                           @Value("${translations.public-bundles.secret:}") String secret,
+                           @Value("${jwt.secret}") String jwtSecret,
+                           @Value("${translations.public-bundles.ttl:7d}") Duration ttl,
+                           @Value("${translations.public-bundles.expiry-bucket:1h}") Duration bucket,
+                           @Value("${translations.public-bundles.base-url:}") String baseUrl) {
+        if (enabled && secret.isEmpty()) {
+            throw new IllegalStateException("translations.public-bundles.secret must be set when public bundles are enabled");
+        }
+        if (enabled && secret.equals(jwtSecret)) {
+            throw new IllegalStateException("translations.public-bundles.secret must differ from jwt.secret");
+        }
+        this.enabled = enabled;
+        this.key = enabled ? new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM) : null;
+        this.ttl = ttl;
+        this.bucket = bucket;
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+    }
+
+    /**
+     * Signed URL of one bundle version, relative to the configured base URL (a CDN origin, say).
+     */
+    public String url(String locale, String tag, String contentId, long expires) {
+        return UriComponentsBuilder.fromUriString(baseUrl + "/public/bundles/{locale}/{contentId}.json")
+                .queryParamIfPresent("tag", Optional.ofNullable(tag))
+                .queryParam("expires", expires)
+                .queryParam("sig", sign(locale, tag, contentId, expires))
+                .encode()
+                .buildAndExpand(locale, contentId)
+                .toUriString();
+    }
+
+    /**
+     * Expiry for a URL issued at {@code now}, at least {@code ttl} ahead and aligned to the bucket.
+     */
+    public Instant expiry(Instant now) {
+        long bucketSeconds = Math.max(1, bucket.getSeconds());
+        long earliest = now.plus(ttl).getEpochSecond();
+        return Instant.ofEpochSecond(Math.floorDiv(earliest + bucketSeconds - 1, bucketSeconds) * bucketSeconds);
+    }
+
+    public String sign(String locale, String tag, String contentId, long expires) {
+        if (key == null) {
+            throw new IllegalStateException("Public bundles are disabled");
+        }
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            String payload = locale + '\n' + (tag == null ? "" : tag) + '\n' + contentId + '\n' + expires;
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(mac.doFinal(payload.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Could not sign bundle URL", e);
+        }
+    }
+
+    public boolean verify(String locale, String tag, String contentId, long expires, String signature, Instant now) {
+        if (signature == null || now.getEpochSecond() >= expires) {
+            return false;
+        }
+        byte[] expected = sign(locale, tag, contentId, expires).getBytes(StandardCharsets.US_ASCII);
+        return MessageDigest.isEqual(expected, signature.getBytes(StandardCharsets.US_ASCII));
+    }
+}
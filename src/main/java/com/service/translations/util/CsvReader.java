@@ -0,0 +1,74 @@
+package com.service.translations.util;
+
+import com.service.translations.exception.CustomException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal RFC 4180 reader: comma separated, double-quoted fields with "" escapes and embedded line breaks.
+ */
+public final class CsvReader {
+
+    private CsvReader() {
+    }
+
+    public static List<List<String>> read(String text) {
+        List<List<String>> records = new ArrayList<>();
+        List<String> record = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean fieldStarted = false;
+
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"' && !fieldStarted) {
+                quoted = true;
+                fieldStarted = true;
+            } else if (c == ',') {
+                record.add(field.toString());
+                field.setLength(0);
+                fieldStarted = false;
+            } else if (c == '\n' || c == '\r') {
+                if (c == '\r' && i + 1 < text.length() && text.charAt(i + 1) == '\n') {
+                    i++;
+                }
+                record.add(field.toString());
+                addRecord(records, record);
+                record = new ArrayList<>();
+                field.setLength(0);
+                fieldStarted = false;
+            } else {
+                field.append(c);
+                fieldStarted = true;
+            }
+        }
+
+        if (quoted) {
+            throw new CustomException("Invalid CSV: unterminated quoted field");
+        }
+        if (fieldStarted || field.length() > 0 || !record.isEmpty()) {
+            record.add(field.toString());
+            addRecord(records, record);
+        }
+        return records;
+    }
+
+    // Blank lines are skipped
+    private static void addRecord(List<List<String>> records, List<String> record) {
+        if (record.size() > 1 || !record.get(0).isEmpty()) {
+            records.add(record);
+        }
+    }
+}
@@ -1,85 +1,171 @@
 package com.service.translations.util;
 
+import com.service.translations.cache.LocaleTagDictionary;
+import com.service.translations.config.CacheConfig;
 import com.service.translations.entity.Locale;
 import com.service.translations.entity.Tag;
-import com.service.translations.entity.Translation;
+import com.service.translations.event.TranslationsReloadedEvent;
 import com.service.translations.repository.LocaleRepository;
 import com.service.translations.repository.TagRepository;
 import com.service.translations.repository.TranslationRepository;
-import lombok.RequiredArgsConstructor;
-import org.springframework.boot.CommandLineRunner;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
-
-import java.util.*;
-
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+/**
+ * Seeds demo translations into an empty database when the {@code seed} profile is active.
+ * <p>
+ * Seeding starts on the application task executor once the application is ready, so it does not hold up readiness.
+ * The rows are split into ranges generated on parallel threads, each inserted as JDBC batches in short
+ * transactions. The inserts bypass the services, so a {@link TranslationsReloadedEvent} at the end has
+ * the indexes and bundles rebuilt from the database.
+ */
+@Slf4j
 @Component
-@RequiredArgsConstructor
-public class DataSeeder implements CommandLineRunner {
+@Profile("seed")
+public class DataSeeder {
+
+    private static final String INSERT = "insert into translations (id, \"key\", content, locale_id, tag_id, updated_at) "
+            + "values (next value for translation_seq, ?, ?, ?, ?, ?)";
 
     private final TranslationRepository translationRepository;
     private final LocaleRepository localeRepository;
     private final TagRepository tagRepository;
+    private final LocaleTagDictionary dictionary;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheManager cacheManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskExecutor taskExecutor;
+    private final long rows;
+    private final List<String> localeCodes;
+    private final List<String> tagNames;
+    private final int threads;
+    private final int batchSize;
+
+    public DataSeeder(TranslationRepository translationRepository,
+                      LocaleRepository localeRepository,
+                      TagRepository tagRepository,
+                      LocaleTagDictionary dictionary,
+                      JdbcTemplate jdbcTemplate,
+                      TransactionTemplate transactionTemplate,
+                      CacheManager cacheManager,
+                      ApplicationEventPublisher eventPublisher,
+                      @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+                      TaskExecutor taskExecutor,
+                      @Value("${translations.seed.rows:100000}") long rows,
+                      @Value("${translations.seed.locales:en,fr,es,de}") List<String> localeCodes,
+                      @Value("${translations.seed.tags:mobile,desktop,web,api}") List<String> tagNames,
+                      @Value("${translations.seed.threads:0}") int threads,
+                      @Value("${translations.seed.batch-size:1000}") int batchSize) {
+        this.translationRepository = translationRepository;
+        this.localeRepository = localeRepository;
+        this.tagRepository = tagRepository;
+        this.dictionary = dictionary;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.cacheManager = cacheManager;
+        this.eventPublisher = eventPublisher;
+        this.taskExecutor = taskExecutor;
+        this.rows = rows;
+        this.localeCodes = localeCodes;
+        this.tagNames = tagNames;
+        this.threads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedInBackground() {
+        taskExecutor.execute(this::seed);
+    }
 
-    @Override
-    @Transactional
-    public void run(String... args) {
-        // Skip if translations already exist
+    public void seed() {
         if (translationRepository.count() > 0) {
-            System.out.println("Skipping data seeding...");
+            log.info("Translations already present, skipping data seeding");
             return;
         }
 
-        System.out.println("Seeding locales and tags...");
-
-        // Step 1: Ensure Locales exist
-        String[] localeCodes = {"en", "fr", "es", "de"};
-        Map<String, Locale> localeMap = new HashMap<>();
-        for (String code : localeCodes) {
-            Locale locale = localeRepository.findByCode(code)
-                    .orElseGet(() -> localeRepository.save(new Locale(null, code)));
-            localeMap.put(code, locale);
-        }
-
-        // Step 2: Ensure Tags exist
-        String[] tagNames = {"mobile", "desktop", "web", "api"};
-        Map<String, Tag> tagMap = new HashMap<>();
-        for (String tagName : tagNames) {
-            Tag tag = tagRepository.findByName(tagName)
-                    .orElseGet(() -> tagRepository.save(new Tag(null, tagName)));
-            tagMap.put(tagName, tag);
+        long started = System.nanoTime();
+        List<Locale> locales = localeCodes.stream()
+                .map(code -> localeRepository.findByCode(code).orElseGet(() -> localeRepository.save(new Locale(null, code))))
+                .collect(Collectors.toList());
+        List<Tag> tags = tagNames.stream()
+                .map(name -> tagRepository.findByName(name).orElseGet(() -> tagRepository.save(new Tag(null, name))))
+                .collect(Collectors.toList());
+        dictionary.refresh();
+
+        int workers = (int) Math.max(1, Math.min(threads, (rows + batchSize - 1) / batchSize));
+        long perWorker = (rows + workers - 1) / workers;
+        ExecutorService pool = Executors.newFixedThreadPool(workers, new CustomizableThreadFactory("data-seeder-"));
+        long inserted = 0;
+        try {
+            List<Future<Long>> ranges = new ArrayList<>(workers);
+            for (long from = 1; from <= rows; from += perWorker) {
+                long first = from;
+                long last = Math.min(rows, from + perWorker - 1);
+                ranges.add(pool.submit(() -> insert(first, last, locales, tags)));
+            }
+            for (Future<Long> range : ranges) {
+                inserted += range.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.error("Data seeding failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+            // Whatever was inserted is visible from here on, so derived state is rebuilt either way
+            for (String cache : List.of(CacheConfig.ALL_TRANSLATIONS, CacheConfig.LOCALE_TRANSLATIONS)) {
+                Cache exportPages = cacheManager.getCache(cache);
+                if (exportPages != null) {
+                    exportPages.clear();
+                }
+            }
+            eventPublisher.publishEvent(new TranslationsReloadedEvent(
+                    locales.stream().map(Locale::getCode).collect(Collectors.toSet())));
         }
 
-        System.out.println("Seeding translations...");
-
-        // Step 3: Create Translations
-        List<Translation> bulk = new ArrayList<>();
-        Random random = new Random();
-
-        for (int i = 1; i <= 100_000; i++) {
-            String localeCode = localeCodes[random.nextInt(localeCodes.length)];
-            String tagName = tagNames[random.nextInt(tagNames.length)];
-
-            Translation translation = Translation.builder()
-                    .key("key_" + i)
-                    .content("This is content number " + i)
-                    .locale(localeMap.get(localeCode))
-                    .tag(tagMap.get(tagName))
-                    .build();
-
-            bulk.add(translation);
+        long elapsedMs = Math.max(1, (System.nanoTime() - started) / 1_000_000);
+        log.info("Seeded {} translations on {} threads in {} ms ({} rows/s)",
+                inserted, workers, elapsedMs, inserted * 1000 / elapsedMs);
+    }
 
-            if (i % 1000 == 0) {
-                translationRepository.saveAll(bulk);
-                bulk.clear();
-                System.out.println("Inserted " + i + " translations...");
+    // Rows first..last; each range has its own generator, so ranges need no coordination
+    private long insert(long first, long last, List<Locale> locales, List<Tag> tags) {
+        SplittableRandom random = new SplittableRandom(first);
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        for (long i = first; i <= last; i++) {
+            Locale locale = locales.get(random.nextInt(locales.size()));
+            Tag tag = tags.get(random.nextInt(tags.size()));
+            batch.add(new Object[]{"key_" + i, "This is content number " + i, locale.getId(), tag.getId(), now});
+            if (batch.size() == batchSize || i == last) {
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT, batch));
+                batch.clear();
             }
         }
-
-        if (!bulk.isEmpty()) {
-            translationRepository.saveAll(bulk);
-        }
-
-        System.out.println("Seeding complete.");
+        return last - first + 1;
     }
 }
@@ -0,0 +1,41 @@
+package com.service.translations.util;
+
+import com.service.translations.exception.CustomException;
+import lombok.Value;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque continuation token for keyset pagination over (updatedAt DESC, id DESC).
+ */
+@Value
+public class KeysetCursor {
+
+    private static final String VERSION = "1:";
+
+    LocalDateTime updatedAt;
+    Long id;
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((VERSION + updatedAt + "|" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            if (!raw.startsWith(VERSION) || separator < 0) {
+                throw new CustomException("Invalid cursor");
+            }
+            return new KeysetCursor(
+                    LocalDateTime.parse(raw.substring(VERSION.length(), separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new CustomException("Invalid cursor");
+        }
+    }
+}
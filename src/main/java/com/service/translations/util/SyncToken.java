@@ -0,0 +1,42 @@
+package com.service.translations.util;
+
+import com.service.translations.exception.CustomException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque delta sync token wrapping the high-water mark of the changes a client has seen.
+ */
+public final class SyncToken {
+
+    private static final String VERSION = "1:";
+
+    private SyncToken() {
+    }
+
+    public static String encode(LocalDateTime highWaterMark) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((VERSION + highWaterMark).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String encode(Instant highWaterMark) {
+        return encode(LocalDateTime.ofInstant(highWaterMark, ZoneId.systemDefault()));
+    }
+
+    public static LocalDateTime decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            if (!raw.startsWith(VERSION)) {
+                throw new CustomException("Invalid sync token");
+            }
+            return LocalDateTime.parse(raw.substring(VERSION.length()));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new CustomException("Invalid sync token");
+        }
+    }
+}
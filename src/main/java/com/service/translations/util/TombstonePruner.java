@@ -0,0 +1,36 @@
+package com.service.translations.util;
+
+import com.service.translations.repository.TranslationTombstoneRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Deletes tombstones older than the delta sync retention, at startup and then every prune interval.
+ * Delta tokens older than the retention are answered with a full resync instead.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TombstonePruner {
+
+    private final TranslationTombstoneRepository tombstoneRepository;
+
+    @Value("${translations.sync.tombstone-retention:30d}")
+    private Duration retention;
+
+    @Scheduled(fixedDelayString = "${translations.sync.tombstone-prune-interval:PT1H}")
+    @Transactional
+    public void prune() {
+        int pruned = tombstoneRepository.deleteExpired(LocalDateTime.now().minus(retention));
+        if (pruned > 0) {
+            log.info("Pruned {} tombstones older than {}", pruned, retention);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.service.translations.util;
+
+import com.service.translations.entity.Translation;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+
+/**
+ * Moves the translation id sequence past existing ids at startup.
+ * <p>
+ * Translation ids used to come from the shared {@code hibernate_sequence}; on a database created then,
+ * {@code translation_seq} starts below ids already taken. Hibernate's pooled optimizer uses the block of
+ * ids ending at each value it reads, so the sequence is restarted one block above the highest id.
+ * Runs before the web server starts, so no insert can draw from the old range.
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class TranslationSequenceAligner {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void align() {
+        Long maxId = jdbcTemplate.queryForObject("select max(id) from translations", Long.class);
+        if (maxId == null) {
+            return;
+        }
+        Long next = jdbcTemplate.queryForObject("select next value for " + Translation.ID_SEQUENCE, Long.class);
+        // The next block Hibernate reads starts right after this value
+        if (next != null && next >= maxId) {
+            return;
+        }
+        long restart = maxId + Translation.ID_ALLOCATION_SIZE;
+        jdbcTemplate.execute("alter sequence " + Translation.ID_SEQUENCE + " restart with " + restart);
+        log.info("Restarted {} at {}, past existing translation id {}", Translation.ID_SEQUENCE, restart, maxId);
+    }
+}
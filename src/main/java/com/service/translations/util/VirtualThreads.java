@@ -0,0 +1,49 @@
+package com.service.translations.util;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Access to JDK 21 virtual threads from code compiled for Java 17. Everything is looked up
+ * reflectively, so on older runtimes the factories are simply absent.
+ */
+public final class VirtualThreads {
+
+    private VirtualThreads() {
+    }
+
+    public static boolean isSupported() {
+        return threadFactory("probe-").isPresent();
+    }
+
+    /**
+     * Factory for virtual threads named {@code prefix0}, {@code prefix1}, ...
+     */
+    public static Optional<ThreadFactory> threadFactory(String prefix) {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, prefix, 0L);
+            return Optional.of((ThreadFactory) builderType.getMethod("factory").invoke(builder));
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Executor starting one new virtual thread per task.
+     */
+    public static Optional<ExecutorService> newThreadPerTaskExecutor(String prefix) {
+        return threadFactory(prefix).map(factory -> {
+            try {
+                Method create = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+                return (ExecutorService) create.invoke(null, factory);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Virtual threads are available but their executor is not", e);
+            }
+        });
+    }
+}
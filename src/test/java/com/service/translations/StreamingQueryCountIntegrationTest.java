@@ -0,0 +1,68 @@
+package com.service.translations;
+
+import com.service.translations.dto.AuthResponseDTO;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class StreamingQueryCountIntegrationTest {
+
+    private static final String STREAM_URI = "/api/translations/export/stream";
+
+    @Autowired
+    private TestRestTemplate rest;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Test
+    void exportStream_countsQueriesIssuedByTheStreamingBody() throws Exception {
+        AuthResponseDTO login = rest.postForObject("/api/auth/login",
+                Map.of("username", "admin", "password", "12345678"), AuthResponseDTO.class);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(login.getToken());
+        HttpEntity<Void> request = new HttpEntity<>(headers);
+
+        // The first call resolves the principal on the request thread; the second runs only the export query
+        assertEquals(HttpStatus.OK, rest.exchange(STREAM_URI, HttpMethod.GET, request, String.class).getStatusCode());
+        DistributionSummary queries = awaitSummary(1);
+        double before = queries.totalAmount();
+
+        ResponseEntity<String> response = rest.exchange(STREAM_URI, HttpMethod.GET, request, String.class);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        awaitSummary(2);
+
+        assertTrue(queries.totalAmount() - before >= 1,
+                "the streaming body's query should count towards its request");
+    }
+
+    // Asynchronous requests are recorded once the container completes them, just after the response is read
+    private DistributionSummary awaitSummary(long count) throws InterruptedException {
+        for (int attempt = 0; attempt < 50; attempt++) {
+            DistributionSummary summary = registry.find("translations.db.queries").tag("uri", STREAM_URI).summary();
+            if (summary != null && summary.count() >= count) {
+                return summary;
+            }
+            Thread.sleep(100);
+        }
+        DistributionSummary summary = registry.find("translations.db.queries").tag("uri", STREAM_URI).summary();
+        assertNotNull(summary, "no query count was recorded for " + STREAM_URI);
+        assertEquals(count, summary.count());
+        return summary;
+    }
+}
@@ -0,0 +1,76 @@
+package com.service.translations.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LocaleEpochsTest {
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final LocaleEpochs epochs = new LocaleEpochs();
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.initMocks(this);
+        readOnly = LocaleEpochs.readOnly(new TransactionTemplate(transactionManager));
+    }
+
+    @Test
+    public void bump_movesTheLocaleAndTheTotalOnly() {
+        epochs.bump("en");
+        epochs.bump("fr");
+
+        assertEquals(1, epochs.epoch("en"));
+        assertEquals(0, epochs.epoch("de"));
+        assertEquals(2, epochs.epoch());
+    }
+
+    @Test
+    public void readThrough_loadsOnceAndKeepsTheResult() {
+        ConcurrentMap<String, String> target = new ConcurrentHashMap<>();
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals("en-1", epochs.readThrough(target, "en", readOnly, locale -> locale + "-" + loads.incrementAndGet()));
+        assertEquals("en-1", epochs.readThrough(target, "en", readOnly, locale -> locale + "-" + loads.incrementAndGet()));
+        assertEquals(1, loads.get());
+        assertTrue(readOnly.isReadOnly());
+    }
+
+    @Test
+    public void readThrough_answersButDoesNotKeepALoadRacedByAWrite() {
+        ConcurrentMap<String, String> target = new ConcurrentHashMap<>();
+
+        String loaded = epochs.readThrough(target, "en", readOnly, locale -> {
+            epochs.bump(locale);
+            return "stale";
+        });
+
+        assertEquals("stale", loaded);
+        assertFalse(target.containsKey("en"));
+    }
+
+    @Test
+    public void install_ignoresWritesToOtherLocales() {
+        ConcurrentMap<String, String> target = new ConcurrentHashMap<>();
+        long epochAtLoad = epochs.epoch("en");
+        epochs.bump("fr");
+
+        epochs.install(target, "en:web", "en", "bundle", epochAtLoad);
+
+        assertEquals("bundle", target.get("en:web"));
+    }
+}
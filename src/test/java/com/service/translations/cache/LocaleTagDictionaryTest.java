@@ -0,0 +1,88 @@
+package com.service.translations.cache;
+
+import com.service.translations.entity.Locale;
+import com.service.translations.entity.Tag;
+import com.service.translations.repository.LocaleRepository;
+import com.service.translations.repository.TagRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class LocaleTagDictionaryTest {
+
+    @Mock
+    private LocaleRepository localeRepository;
+
+    @Mock
+    private TagRepository tagRepository;
+
+    private LocaleTagDictionary dictionary;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.initMocks(this);
+        when(localeRepository.findAll()).thenReturn(List.of(new Locale(1L, "en"), new Locale(2L, "fr")));
+        when(tagRepository.findAll()).thenReturn(List.of(new Tag(10L, "web")));
+        dictionary = new LocaleTagDictionary(localeRepository, tagRepository);
+        dictionary.refresh();
+    }
+
+    @Test
+    public void lookups_resolveByIdCodeAndName() {
+        assertEquals("fr", dictionary.locale(2L).map(Locale::getCode).orElse(null));
+        assertEquals(1L, dictionary.locale("en").map(Locale::getId).orElse(null));
+        assertEquals("web", dictionary.tag(10L).map(Tag::getName).orElse(null));
+        assertEquals(10L, dictionary.tag("web").map(Tag::getId).orElse(null));
+        assertEquals(2, dictionary.locales().size());
+        assertFalse(dictionary.locale((Long) null).isPresent());
+        assertFalse(dictionary.tag((String) null).isPresent());
+    }
+
+    @Test
+    public void miss_reloadsAtMostOnceASecond() throws InterruptedException {
+        assertFalse(dictionary.locale("de").isPresent());
+        assertFalse(dictionary.tag("api").isPresent());
+        verify(localeRepository, times(1)).findAll();
+
+        // Written outside the services, so only a miss reload picks it up
+        when(localeRepository.findAll()).thenReturn(List.of(new Locale(1L, "en"), new Locale(3L, "de")));
+        Thread.sleep(1100);
+
+        assertEquals(3L, dictionary.locale("de").map(Locale::getId).orElse(null));
+        assertFalse(dictionary.locale("fr").isPresent());
+        verify(localeRepository, times(2)).findAll();
+    }
+
+    @Test
+    public void lookups_returnCopiesThatCannotChangeTheDictionary() {
+        Locale locale = dictionary.locale(1L).orElseThrow();
+        assertNotSame(locale, dictionary.locale(1L).orElseThrow());
+        locale.setCode("changed");
+        dictionary.locales().forEach(l -> l.setCode("changed"));
+        Tag tag = dictionary.tag(10L).orElseThrow();
+        tag.setName("changed");
+
+        assertEquals("en", dictionary.locale(1L).map(Locale::getCode).orElse(null));
+        assertEquals("web", dictionary.tag(10L).map(Tag::getName).orElse(null));
+        assertFalse(dictionary.locale("changed").isPresent());
+    }
+
+    @Test
+    public void refreshAfterCommit_outsideATransaction_reloadsRightAway() {
+        when(tagRepository.findAll()).thenReturn(List.of(new Tag(10L, "web"), new Tag(11L, "api")));
+
+        dictionary.refreshAfterCommit();
+
+        assertEquals(11L, dictionary.tag("api").map(Tag::getId).orElse(null));
+    }
+}
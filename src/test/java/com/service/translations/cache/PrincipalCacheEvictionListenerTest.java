@@ -0,0 +1,61 @@
+package com.service.translations.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.service.translations.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class PrincipalCacheEvictionListenerTest {
+
+    private final Cache<String, CachedPrincipal> principalCache = Caffeine.newBuilder().build();
+    private final PrincipalCacheEvictionListener listener = new PrincipalCacheEvictionListener(principalCache);
+
+    @BeforeEach
+    public void setUp() {
+        principalCache.put("digest", new CachedPrincipal(null, Instant.now().plusSeconds(60)));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    public void onUserChanged_insideATransaction_clearsOnlyOnceItCommits() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        listener.onUserChanged(new User());
+
+        assertEquals(1, principalCache.estimatedSize());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(0, principalCache.estimatedSize());
+    }
+
+    @Test
+    public void onUserChanged_insideARolledBackTransaction_keepsTheCache() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        listener.onUserChanged(new User());
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertEquals(1, principalCache.estimatedSize());
+    }
+
+    @Test
+    public void onUserChanged_outsideATransaction_clearsAtOnce() {
+        listener.onUserChanged(new User());
+
+        assertEquals(0, principalCache.estimatedSize());
+    }
+}
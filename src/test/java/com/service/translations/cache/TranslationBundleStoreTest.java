@@ -0,0 +1,158 @@
+package com.service.translations.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.service.translations.dto.FullTranslationExportDTO;
+import com.service.translations.event.TranslationChangedEvent;
+import com.service.translations.event.TranslationsBatchChangedEvent;
+import com.service.translations.event.TranslationsReloadedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TranslationBundleStoreTest {
+
+    private static final BundleKey EN = BundleKey.of("en", null);
+    private static final BundleKey EN_WEB = BundleKey.of("en", "web");
+    private static final BundleKey EN_MOBILE = BundleKey.of("en", "mobile");
+    private static final LocalDateTime UPDATED = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    private final TranslationBundleStore store = new TranslationBundleStore(new ObjectMapper(), Caffeine.newBuilder().build());
+
+    @Test
+    public void install_withoutAWriteSinceTheLoadStarted_keepsTheBundle() {
+        TranslationBundle installed = store.install(EN, Map.of("a", "A"), Instant.EPOCH, store.epoch("en"));
+
+        assertSame(installed, store.get(EN));
+    }
+
+    @Test
+    public void install_afterAWriteToTheLocale_servesButDoesNotKeepTheBundle() {
+        long epochAtLoad = store.epoch("en");
+        store.onTranslationChanged(TranslationChangedEvent.created(row(1L, "en", "a", "A", "web")));
+
+        TranslationBundle installed = store.install(EN, Map.of("b", "B"), Instant.EPOCH, epochAtLoad);
+
+        assertEquals(Map.of("b", "B"), installed.getEntries());
+        assertNull(store.get(EN));
+    }
+
+    @Test
+    public void install_afterAWriteToAnotherLocale_keepsTheBundle() {
+        long epochAtLoad = store.epoch("en");
+        long storeEpochAtLoad = store.epoch();
+        store.onTranslationChanged(TranslationChangedEvent.created(row(1L, "fr", "a", "A", "web")));
+
+        store.install(EN, Map.of("b", "B"), Instant.EPOCH, epochAtLoad);
+
+        assertNotNull(store.get(EN));
+        assertTrue(store.epoch() > storeEpochAtLoad);
+    }
+
+    @Test
+    public void created_patchesTheTaggedAndAllTagsBundles() {
+        install(EN, Map.of("a", "A"));
+        install(EN_WEB, Map.of("a", "A"));
+
+        store.onTranslationChanged(TranslationChangedEvent.created(row(2L, "en", "b", "B", "web")));
+
+        assertEquals(Map.of("a", "A", "b", "B"), store.get(EN).getEntries());
+        assertEquals(Map.of("a", "A", "b", "B"), store.get(EN_WEB).getEntries());
+        assertEquals(UPDATED.atZone(ZoneId.systemDefault()).toInstant(), store.get(EN_WEB).getLastModified());
+    }
+
+    @Test
+    public void updated_inPlace_patchesContent() {
+        FullTranslationExportDTO before = row(1L, "en", "a", "A", "web");
+        install(EN, Map.of("a", "A"));
+        install(EN_WEB, Map.of("a", "A"));
+
+        store.onTranslationChanged(TranslationChangedEvent.updated(before, row(1L, "en", "a", "A2", "web")));
+
+        assertEquals(Map.of("a", "A2"), store.get(EN).getEntries());
+        assertEquals(Map.of("a", "A2"), store.get(EN_WEB).getEntries());
+    }
+
+    @Test
+    public void updated_toAnotherTag_movesTheKeyBetweenTaggedBundles() {
+        FullTranslationExportDTO before = row(1L, "en", "a", "A", "web");
+        install(EN, Map.of("a", "A", "b", "B"));
+        install(EN_WEB, Map.of("a", "A", "b", "B"));
+        install(EN_MOBILE, Map.of("c", "C"));
+
+        store.onTranslationChanged(TranslationChangedEvent.updated(before, row(1L, "en", "a", "A", "mobile")));
+
+        assertEquals(Map.of("b", "B"), store.get(EN_WEB).getEntries());
+        assertEquals(Map.of("a", "A", "c", "C"), store.get(EN_MOBILE).getEntries());
+        assertEquals(Map.of("a", "A", "b", "B"), store.get(EN).getEntries());
+    }
+
+    @Test
+    public void deleted_dropsTheAllTagsBundleSinceAnotherTagMayHoldTheKey() {
+        install(EN, Map.of("a", "A", "b", "B"));
+        install(EN_WEB, Map.of("a", "A", "b", "B"));
+
+        store.onTranslationChanged(TranslationChangedEvent.deleted(row(1L, "en", "a", "A", "web")));
+
+        assertEquals(Map.of("b", "B"), store.get(EN_WEB).getEntries());
+        assertNull(store.get(EN));
+    }
+
+    @Test
+    public void deleted_lastEntry_dropsTheEmptiedBundle() {
+        install(EN_WEB, Map.of("a", "A"));
+
+        store.onTranslationChanged(TranslationChangedEvent.deleted(row(1L, "en", "a", "A", "web")));
+
+        assertNull(store.get(EN_WEB));
+    }
+
+    @Test
+    public void batchChanged_dropsTouchedBundlesOnly() {
+        install(EN, Map.of("a", "A"));
+        install(EN_WEB, Map.of("a", "A"));
+        install(EN_MOBILE, Map.of("c", "C"));
+
+        store.onTranslationsBatchChanged(new TranslationsBatchChangedEvent(
+                List.of(TranslationChangedEvent.created(row(2L, "en", "b", "B", "web")))));
+
+        assertNull(store.get(EN));
+        assertNull(store.get(EN_WEB));
+        assertNotNull(store.get(EN_MOBILE));
+    }
+
+    @Test
+    public void reloaded_dropsEveryBundleOfTheLocales() {
+        install(EN, Map.of("a", "A"));
+        install(EN_WEB, Map.of("a", "A"));
+        BundleKey fr = BundleKey.of("fr", null);
+        install(fr, Map.of("a", "A"));
+        long epochBefore = store.epoch("en");
+
+        store.onTranslationsReloaded(new TranslationsReloadedEvent(Set.of("en")));
+
+        assertNull(store.get(EN));
+        assertNull(store.get(EN_WEB));
+        assertNotNull(store.get(fr));
+        assertTrue(store.epoch("en") > epochBefore);
+    }
+
+    private void install(BundleKey key, Map<String, String> entries) {
+        store.install(key, entries, Instant.EPOCH, store.epoch(key.getLocale()));
+    }
+
+    private static FullTranslationExportDTO row(Long id, String locale, String key, String content, String tag) {
+        return new FullTranslationExportDTO(id, locale, key, content, tag, UPDATED);
+    }
+}
@@ -0,0 +1,85 @@
+package com.service.translations.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class TranslationBundleTest {
+
+    private static final BundleKey KEY = BundleKey.of("en", null);
+    private static final Instant T0 = Instant.parse("2026-01-01T00:00:00Z");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void contentId_sameEntriesInAnyOrder_isTheSame() {
+        Map<String, String> forward = new LinkedHashMap<>();
+        forward.put("a", "A");
+        forward.put("b", "B");
+        Map<String, String> backward = new LinkedHashMap<>();
+        backward.put("b", "B");
+        backward.put("a", "A");
+
+        assertEquals(bundle(forward).getContentId(), bundle(backward).getContentId());
+    }
+
+    @Test
+    public void patches_leaveTheSameHashAsBuildingTheResultFromScratch() {
+        TranslationBundle patched = bundle(Map.of("a", "A", "b", "B"))
+                .withPut("c", "C", 2, T0)
+                .withPut("a", "A2", 3, T0)
+                .withRemoved("b", 4, T0);
+
+        TranslationBundle built = bundle(Map.of("a", "A2", "c", "C"));
+
+        assertEquals(built.getContentHash(), patched.getContentHash());
+        assertEquals(built.getETag(), patched.getETag());
+        assertEquals(Map.of("a", "A2", "c", "C"), patched.getEntries());
+        assertEquals(4, patched.getVersion());
+    }
+
+    @Test
+    public void eTag_changesWithContentAndSwappedValues() {
+        TranslationBundle original = bundle(Map.of("a", "A", "b", "B"));
+
+        assertNotEquals(original.getETag(), original.withPut("a", "A2", 2, T0).getETag());
+        // Hashing key and content together keeps swapped values from cancelling out
+        assertNotEquals(original.getETag(), bundle(Map.of("a", "B", "b", "A")).getETag());
+    }
+
+    @Test
+    public void withRemoved_missingKey_returnsTheSameBundle() {
+        TranslationBundle original = bundle(Map.of("a", "A"));
+
+        assertSame(original, original.withRemoved("missing", 2, T0.plusSeconds(60)));
+    }
+
+    @Test
+    public void lastModified_neverMovesBack() {
+        TranslationBundle original = bundle(Map.of("a", "A"));
+
+        assertEquals(T0, original.withPut("b", "B", 2, T0.minusSeconds(60)).getLastModified());
+        assertEquals(T0.plusSeconds(60), original.withRemoved("a", 2, T0.plusSeconds(60)).getLastModified());
+    }
+
+    @Test
+    public void getJson_serializesOnceAndReusesTheBody() throws Exception {
+        TranslationBundle bundle = bundle(Map.of("a", "A"));
+
+        byte[] json = bundle.getJson();
+
+        assertSame(json, bundle.getJson());
+        assertEquals(Map.of("a", "A"), objectMapper.readValue(json, Map.class));
+    }
+
+    private TranslationBundle bundle(Map<String, String> entries) {
+        return TranslationBundle.of(KEY, 1, entries, T0, objectMapper);
+    }
+}
@@ -0,0 +1,160 @@
+package com.service.translations.cache;
+
+import com.service.translations.dto.CursorPageDTO;
+import com.service.translations.dto.FullTranslationExportDTO;
+import com.service.translations.dto.LocaleCoverageDTO;
+import com.service.translations.dto.TranslationKeyDTO;
+import com.service.translations.event.TranslationChangedEvent;
+import com.service.translations.repository.TranslationExportRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TranslationCoverageIndexTest {
+
+    @Mock
+    private TranslationExportRepository repo;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TranslationCoverageIndex index;
+    private long ids;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.initMocks(this);
+        index = new TranslationCoverageIndex(repo, new TransactionTemplate(transactionManager), "en",
+                new SyncTaskExecutor());
+    }
+
+    @Test
+    public void completeness_countsKeysSharedWithTheReferencePerTag() {
+        when(repo.streamAllForExport()).thenReturn(Stream.of(
+                row("en", "a", "web"), row("en", "b", "web"), row("en", "c", "mobile"), row("en", "d", null),
+                row("fr", "a", "web"), row("fr", "c", "mobile"), row("fr", "only-fr", "web"),
+                row("fr", "b", "mobile")));
+
+        LocaleCoverageDTO all = index.completeness(List.of("en", "fr"), null).get(0);
+        LocaleCoverageDTO web = index.completeness(List.of("fr"), "web").get(0);
+
+        assertEquals(new LocaleCoverageDTO("fr", null, "en", 4, 2, 2, 50.0), all);
+        // "b" exists in fr only under another tag, and "only-fr" is not a reference key
+        assertEquals(new LocaleCoverageDTO("fr", "web", "en", 2, 1, 1, 50.0), web);
+    }
+
+    @Test
+    public void completeness_followsWritesToTheReferenceAndOtherLocales() {
+        FullTranslationExportDTO frA = row("fr", "a", "web");
+        FullTranslationExportDTO enB = row("en", "b", "web");
+        when(repo.streamAllForExport()).thenReturn(Stream.of(row("en", "a", "web"), enB, frA));
+        index.completeness(List.of("fr"), null);
+
+        index.onTranslationChanged(TranslationChangedEvent.created(row("fr", "b", "web")));
+        index.onTranslationChanged(TranslationChangedEvent.deleted(enB));
+        index.onTranslationChanged(TranslationChangedEvent.updated(frA, row("fr", "a", "mobile")));
+
+        assertEquals(new LocaleCoverageDTO("fr", null, "en", 1, 0, 1, 0.0),
+                index.completeness(List.of("fr"), null).get(0));
+        verify(repo, times(1)).streamAllForExport();
+    }
+
+    @Test
+    public void missing_pagesByKeyAndGroupsTagsOfAKey() {
+        when(repo.streamAllForExport()).thenReturn(Stream.of(
+                row("en", "c", "web"), row("en", "a", "web"), row("en", "a", "mobile"), row("en", "b", null),
+                row("en", "d", "web"), row("fr", "d", "web")));
+
+        CursorPageDTO<TranslationKeyDTO> first = index.missing("fr", null, null, 2);
+        CursorPageDTO<TranslationKeyDTO> second = index.missing("fr", null, first.getNextCursor(), 2);
+
+        assertEquals(List.of(new TranslationKeyDTO("a", List.of("web", "mobile")), new TranslationKeyDTO("b", List.of())),
+                first.getContent());
+        assertTrue(first.isHasMore());
+        assertEquals("b", first.getNextCursor());
+        assertEquals(List.of("c"), keys(second));
+        assertFalse(second.isHasMore());
+        assertNull(second.getNextCursor());
+        assertEquals(List.of("a", "c"), keys(index.missing("fr", "web", null, 10)));
+    }
+
+    @Test
+    public void missing_cursorStaysValidWhenKeysAreAddedBeforeIt() {
+        when(repo.streamAllForExport()).thenReturn(Stream.of(row("en", "m", "web"), row("en", "z", "web")));
+        CursorPageDTO<TranslationKeyDTO> first = index.missing("fr", null, null, 1);
+
+        index.onTranslationChanged(TranslationChangedEvent.created(row("en", "a", "web")));
+
+        assertEquals(List.of("z"), keys(index.missing("fr", null, first.getNextCursor(), 1)));
+    }
+
+    @Test
+    public void missing_followsWritesToTheReferenceAndTheLocale() {
+        FullTranslationExportDTO enA = row("en", "a", "web");
+        FullTranslationExportDTO frB = row("fr", "b", "web");
+        when(repo.streamAllForExport()).thenReturn(Stream.of(enA, row("en", "b", "web"), row("en", "c", "web"), frB));
+        assertEquals(List.of("a", "c"), keys(index.missing("fr", null, null, 10)));
+
+        index.onTranslationChanged(TranslationChangedEvent.deleted(enA));
+        index.onTranslationChanged(TranslationChangedEvent.created(row("en", "d", "mobile")));
+        index.onTranslationChanged(TranslationChangedEvent.created(row("fr", "c", "web")));
+        index.onTranslationChanged(TranslationChangedEvent.deleted(frB));
+
+        assertEquals(List.of(new TranslationKeyDTO("b", List.of("web")), new TranslationKeyDTO("d", List.of("mobile"))),
+                index.missing("fr", null, null, 10).getContent());
+        assertEquals(List.of("d"), keys(index.missing("fr", "mobile", null, 10)));
+        // A locale without rows misses every reference key, and the reference misses none
+        assertEquals(List.of("b", "c", "d"), keys(index.missing("de", null, null, 10)));
+        assertTrue(index.missing("en", null, null, 10).getContent().isEmpty());
+    }
+
+    @Test
+    public void warmUp_loadsTheIndexOnTheExecutor() {
+        when(repo.streamAllForExport()).thenReturn(Stream.of(row("en", "a", "web")));
+
+        index.warmUp();
+        index.missing("fr", null, null, 10);
+
+        verify(repo, times(1)).streamAllForExport();
+    }
+
+    @Test
+    public void load_replaysWritesCommittedWhileItRan() {
+        FullTranslationExportDTO frA = row("fr", "a", "web");
+        when(repo.streamAllForExport()).thenAnswer(invocation -> {
+            // Committed after the scan read its rows, so only the queued event carries them
+            index.onTranslationChanged(TranslationChangedEvent.created(row("en", "b", "web")));
+            index.onTranslationChanged(TranslationChangedEvent.deleted(frA));
+            return Stream.of(row("en", "a", "web"), frA);
+        });
+
+        assertEquals(new LocaleCoverageDTO("fr", null, "en", 2, 0, 2, 0.0),
+                index.completeness(List.of("fr"), null).get(0));
+        index.completeness(List.of("fr"), null);
+        verify(repo, times(1)).streamAllForExport();
+    }
+
+    private static List<String> keys(CursorPageDTO<TranslationKeyDTO> page) {
+        return page.getContent().stream().map(TranslationKeyDTO::getKey).collect(Collectors.toList());
+    }
+
+    private FullTranslationExportDTO row(String locale, String key, String tag) {
+        return new FullTranslationExportDTO(++ids, locale, key, key + "-" + locale, tag, null);
+    }
+}
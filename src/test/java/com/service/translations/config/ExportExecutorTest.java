@@ -0,0 +1,69 @@
+package com.service.translations.config;
+
+import com.service.translations.metrics.QueryCounter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ExportExecutorTest {
+
+    private ExportExecutor executor;
+
+    @BeforeEach
+    public void setUp() {
+        executor = new ExportExecutor(new SimpleMeterRegistry(), new QueryCounter(), 1, 1, "abort",
+                Duration.ofMillis(200), false);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    public void supply_returnsTheResultOfTheTask() throws Exception {
+        assertEquals("done", executor.supply(() -> "done").get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void supply_timedOut_interruptsTheTaskAndFreesTheWorker() throws Exception {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        CompletableFuture<String> stuck = executor.supply(() -> {
+            try {
+                Thread.sleep(60_000);
+                return "late";
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw new IllegalStateException(e);
+            }
+        });
+
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> stuck.get(5, TimeUnit.SECONDS));
+        assertTrue(failure.getCause() instanceof TimeoutException);
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        // The pool has a single thread, so this only runs once the timed-out task let go of it
+        assertEquals("next", executor.supply(() -> "next").get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void supply_failingTask_failsTheFuture() {
+        CompletableFuture<String> failing = executor.supply(() -> {
+            throw new IllegalStateException("broken");
+        });
+
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> failing.get(5, TimeUnit.SECONDS));
+        assertEquals("broken", failure.getCause().getMessage());
+    }
+}
@@ -0,0 +1,351 @@
+package com.service.translations.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.service.translations.TranslationsApplication;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.TypeExcludeFilter;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Boots the application on a {@link SyntheticDataset}, drives a fixed mix of reads and writes at a
+ * target rate and reports throughput and p50/p99/p99.9 latency per endpoint.
+ * <p>
+ * Requests are sent open-loop on a fixed schedule and latency is measured from each request's
+ * scheduled time, so a stalled server shows up as latency instead of as fewer requests. Settings
+ * are {@code load.*} system properties, e.g.
+ * {@code mvn test -Pload-test -Dtest=MixedTrafficLoadTest -Dload.rows=2000000 -Dload.rate=200}.
+ * The run fails when an endpoint's error rate exceeds {@code load.max-error-rate} or, if set,
+ * its p99 exceeds {@code load.max-p99-ms}.
+ */
+@Tag("load")
+class MixedTrafficLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(MixedTrafficLoadTest.class);
+
+    private static final int SAMPLE_SIZE = 10_000;
+
+    @Test
+    void mixedTraffic_atTargetRate_withinBudget() throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TranslationsApplication.class, SyntheticDataset.class)
+                .initializers(MixedTrafficLoadTest::excludeTestConfigurations)
+                .run("--server.port=0")) {
+            awaitStartupLoads(context);
+            Environment env = context.getEnvironment();
+            double rate = env.getProperty("load.rate", Double.class, 50.0);
+            Duration warmup = env.getProperty("load.warmup", Duration.class, Duration.ofSeconds(15));
+            Duration duration = env.getProperty("load.duration", Duration.class, Duration.ofSeconds(60));
+            double maxErrorRate = env.getProperty("load.max-error-rate", Double.class, 0.01);
+            long maxP99Ms = env.getProperty("load.max-p99-ms", Long.class, 0L);
+            Path report = Path.of(env.getProperty("load.report", "target/load-test-report.json"));
+
+            String base = "http://localhost:" + env.getProperty("local.server.port");
+            HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(30)).build();
+            Traffic traffic = new Traffic(base, login(client, base), sample(context.getBean(JdbcTemplate.class)),
+                    env.getProperty("load.seed", Long.class, 42L));
+
+            drive(client, traffic, rate, warmup);
+            Map<String, Endpoint> measured = drive(client, traffic, rate, duration);
+
+            Map<String, Object> results = new LinkedHashMap<>();
+            results.put("rows", env.getProperty("load.rows", Long.class, 200_000L));
+            results.put("targetRate", rate);
+            results.put("durationSeconds", duration.toSeconds());
+            Map<String, Object> endpoints = new LinkedHashMap<>();
+            StringBuilder table = new StringBuilder(String.format("%n%-12s %8s %7s %9s %9s %9s %9s %9s",
+                    "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms"));
+            for (Map.Entry<String, Endpoint> entry : measured.entrySet()) {
+                Endpoint endpoint = entry.getValue();
+                Histogram latency = endpoint.latency;
+                long requests = latency.getTotalCount();
+                Map<String, Object> row = new LinkedHashMap<>();
+                row.put("requests", requests);
+                row.put("errors", endpoint.errors.sum());
+                row.put("errorsByStatus", endpoint.errorsByStatus);
+                row.put("throughput", requests / (double) duration.toSeconds());
+                row.put("p50Ms", millis(latency.getValueAtPercentile(50)));
+                row.put("p99Ms", millis(latency.getValueAtPercentile(99)));
+                row.put("p999Ms", millis(latency.getValueAtPercentile(99.9)));
+                row.put("maxMs", millis(latency.getMaxValue()));
+                endpoints.put(entry.getKey(), row);
+                table.append(String.format("%n%-12s %8d %7d %9.1f %9.2f %9.2f %9.2f %9.2f", entry.getKey(), requests,
+                        endpoint.errors.sum(), row.get("throughput"), row.get("p50Ms"), row.get("p99Ms"),
+                        row.get("p999Ms"), row.get("maxMs")));
+            }
+            results.put("endpoints", endpoints);
+            log.info("{} req/s for {} s:{}", rate, duration.toSeconds(), table);
+            measured.forEach((name, endpoint) -> {
+                if (!endpoint.errorsByStatus.isEmpty()) {
+                    log.warn("{} errors by status: {}", name, endpoint.errorsByStatus);
+                }
+            });
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(report.toFile(), results);
+
+            for (Map.Entry<String, Endpoint> entry : measured.entrySet()) {
+                Endpoint endpoint = entry.getValue();
+                long requests = endpoint.latency.getTotalCount();
+                assertTrue(endpoint.errors.sum() <= requests * maxErrorRate,
+                        entry.getKey() + ": " + endpoint.errors.sum() + " errors in " + requests + " requests");
+                if (maxP99Ms > 0) {
+                    double p99 = millis(endpoint.latency.getValueAtPercentile(99));
+                    assertTrue(p99 <= maxP99Ms, entry.getKey() + ": p99 " + p99 + " ms over " + maxP99Ms + " ms");
+                }
+            }
+        }
+    }
+
+    private static Map<String, Endpoint> drive(HttpClient client, Traffic traffic, double rate, Duration duration)
+            throws InterruptedException {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        traffic.operations.forEach(operation -> endpoints.put(operation.name, new Endpoint()));
+        AtomicLong outstanding = new AtomicLong();
+        long period = (long) (1_000_000_000L / rate);
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        for (long i = 0; start + i * period < end; i++) {
+            long scheduled = start + i * period;
+            LockSupport.parkNanos(scheduled - System.nanoTime());
+            Operation operation = traffic.next();
+            Endpoint endpoint = endpoints.get(operation.name);
+            outstanding.incrementAndGet();
+            client.sendAsync(operation.request.apply(traffic), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        endpoint.latency.recordValue((System.nanoTime() - scheduled) / 1000);
+                        // Transport failures are counted under status 0
+                        int status = error != null ? 0 : response.statusCode();
+                        if (status == 0 || status >= 400) {
+                            endpoint.errors.increment();
+                            endpoint.errorsByStatus.computeIfAbsent(status, code -> new LongAdder()).increment();
+                        }
+                        outstanding.decrementAndGet();
+                    });
+        }
+        long deadline = System.nanoTime() + Duration.ofMinutes(2).toNanos();
+        while (outstanding.get() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, outstanding.get(), "requests still outstanding after the run");
+        return endpoints;
+    }
+
+    // Every n-th row in id order: the same dataset always gives the same sample
+    private static List<SampledRow> sample(JdbcTemplate jdbcTemplate) {
+        long total = jdbcTemplate.queryForObject("select count(*) from translations", Long.class);
+        long stride = Math.max(1, total / SAMPLE_SIZE);
+        AtomicLong seen = new AtomicLong();
+        List<SampledRow> rows = new ArrayList<>(SAMPLE_SIZE);
+        jdbcTemplate.query("select t.id, t.\"key\", t.locale_id, t.tag_id, l.code, g.name from translations t "
+                + "join locale l on l.id = t.locale_id join tags g on g.id = t.tag_id order by t.id", rs -> {
+            if (seen.getAndIncrement() % stride == 0) {
+                rows.add(new SampledRow(rs.getLong(1), rs.getString(2), rs.getLong(3), rs.getLong(4),
+                        rs.getString(5), rs.getString(6)));
+            }
+        });
+        return rows;
+    }
+
+    // The search and coverage indexes load in the background once the application is ready
+    // The search index rebuild and the coverage load run on the application task executor once the context is ready
+    private static void awaitStartupLoads(ConfigurableApplicationContext context) throws InterruptedException {
+        ThreadPoolExecutor executor = context.getBean(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+                ThreadPoolTaskExecutor.class).getThreadPoolExecutor();
+        while (executor.getActiveCount() > 0 || !executor.getQueue().isEmpty()) {
+            Thread.sleep(100);
+        }
+    }
+
+    // Outside the test context framework, component scanning would otherwise pick up @TestConfiguration classes
+    private static void excludeTestConfigurations(ConfigurableApplicationContext context) {
+        context.getBeanFactory().registerSingleton("loadTestTypeExcludeFilter", new TypeExcludeFilter() {
+            @Override
+            public boolean match(MetadataReader reader, MetadataReaderFactory factory) {
+                return reader.getAnnotationMetadata().hasAnnotation(TestConfiguration.class.getName());
+            }
+        });
+    }
+
+    private static String login(HttpClient client, String base) throws Exception {
+        HttpRequest login = HttpRequest.newBuilder(URI.create(base + "/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"username\":\"admin\",\"password\":\"12345678\"}"))
+                .build();
+        String body = client.send(login, HttpResponse.BodyHandlers.ofString()).body();
+        return body.replaceAll(".*\"token\"\\s*:\\s*\"([^\"]+)\".*", "$1");
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    /**
+     * The request mix. Reads and updates target sampled rows, so their locales and tags follow the
+     * dataset's distribution; creates add new keys.
+     */
+    private static final class Traffic {
+        private final String base;
+        private final String token;
+        private final List<SampledRow> rows;
+        private final Random random;
+        private final List<Operation> operations = List.of(
+                new Operation("bundle", 40, Traffic::bundle),
+                new Operation("page", 20, Traffic::page),
+                new Operation("search", 15, Traffic::search),
+                new Operation("export-all", 5, Traffic::exportAll),
+                new Operation("update", 15, Traffic::update),
+                new Operation("create", 5, Traffic::create));
+        private final int totalWeight = operations.stream().mapToInt(operation -> operation.weight).sum();
+        private long created;
+
+        private Traffic(String base, String token, List<SampledRow> rows, long seed) {
+            this.base = base;
+            this.token = token;
+            this.rows = rows;
+            this.random = new Random(seed);
+        }
+
+        private Operation next() {
+            int point = random.nextInt(totalWeight);
+            for (Operation operation : operations) {
+                point -= operation.weight;
+                if (point < 0) {
+                    return operation;
+                }
+            }
+            throw new IllegalStateException();
+        }
+
+        private SampledRow row() {
+            return rows.get(random.nextInt(rows.size()));
+        }
+
+        private HttpRequest bundle() {
+            SampledRow row = row();
+            String tag = random.nextBoolean() ? "?tag=" + encode(row.tag) : "";
+            return get("/api/translations/export/" + row.locale + ".json" + tag);
+        }
+
+        private HttpRequest page() {
+            SampledRow row = row();
+            return get("/api/translations/exportByLocalAndTag?locale=" + encode(row.locale)
+                    + "&tag=" + encode(row.tag) + "&page=0&size=50");
+        }
+
+        private HttpRequest search() {
+            return get("/api/translations/search?key=" + encode(row().key) + "&page=0&size=20");
+        }
+
+        private HttpRequest exportAll() {
+            return get("/api/translations/export?page=" + random.nextInt(10) + "&size=500");
+        }
+
+        private HttpRequest update() {
+            SampledRow row = row();
+            return send("PUT", "/api/translations/" + row.id,
+                    body(row.key, row.localeId, row.tagId, "updated " + random.nextInt()));
+        }
+
+        private HttpRequest create() {
+            SampledRow row = row();
+            return send("POST", "/api/translations",
+                    body("loadtest.created_" + created++, row.localeId, row.tagId, "created " + random.nextInt()));
+        }
+
+        private HttpRequest get(String path) {
+            return request(path).GET().build();
+        }
+
+        private HttpRequest send(String method, String path, String json) {
+            return request(path).header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofString(json))
+                    .build();
+        }
+
+        private HttpRequest.Builder request(String path) {
+            return HttpRequest.newBuilder(URI.create(base + path))
+                    .header("Authorization", "Bearer " + token)
+                    .timeout(Duration.ofMinutes(1));
+        }
+
+        private static String body(String key, long localeId, long tagId, String content) {
+            return String.format("{\"key\":\"%s\",\"localeId\":%d,\"tagId\":%d,\"content\":\"%s\"}",
+                    key, localeId, tagId, content);
+        }
+
+        private static String encode(String value) {
+            return URLEncoder.encode(value, StandardCharsets.UTF_8);
+        }
+    }
+
+    private static final class Operation {
+        private final String name;
+        private final int weight;
+        private final Function<Traffic, HttpRequest> request;
+
+        private Operation(String name, int weight, Function<Traffic, HttpRequest> request) {
+            this.name = name;
+            this.weight = weight;
+            this.request = request;
+        }
+    }
+
+    private static final class Endpoint {
+        // Microseconds from the scheduled send time, auto-resizing
+        private final Histogram latency = new ConcurrentHistogram(3);
+        private final LongAdder errors = new LongAdder();
+        private final Map<Integer, LongAdder> errorsByStatus = new ConcurrentSkipListMap<>();
+    }
+
+    private static final class SampledRow {
+        private final long id;
+        private final String key;
+        private final long localeId;
+        private final long tagId;
+        private final String locale;
+        private final String tag;
+
+        private SampledRow(long id, String key, long localeId, long tagId, String locale, String tag) {
+            this.id = id;
+            this.key = key;
+            this.localeId = localeId;
+            this.tagId = tagId;
+            this.locale = locale;
+            this.tag = tag;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.service.translations.load;
+
+import com.service.translations.cache.LocaleTagDictionary;
+import com.service.translations.entity.Locale;
+import com.service.translations.entity.Tag;
+import com.service.translations.repository.LocaleRepository;
+import com.service.translations.repository.TagRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Seeds a production-shaped dataset while the application starts, before the search and coverage
+ * indexes load.
+ * <p>
+ * Tags are picked with Zipf-distributed popularity. The first locale holds every key and each further
+ * locale covers fewer keys the further down the tail it is, with update times spread over 90 days.
+ * Rows go in as JDBC batches; the same {@code load.seed} always gives the same rows.
+ */
+@Order(Ordered.HIGHEST_PRECEDENCE)
+class SyntheticDataset implements CommandLineRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataset.class);
+
+    private static final String INSERT = "insert into translations (id, \"key\", content, locale_id, tag_id, updated_at) "
+            + "values (next value for translation_seq, ?, ?, ?, ?, ?)";
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String[] LOCALE_CODES = {"en", "de", "fr", "es", "ja", "pt-br", "it", "zh-cn", "ko", "nl",
+            "ru", "pl", "sv", "tr", "zh-tw", "da", "fi", "nb", "cs", "hu", "ar", "he", "th", "id", "vi", "uk", "el",
+            "ro", "pt", "es-mx"};
+    private static final String[] AREAS = {"checkout", "account", "search", "catalog", "settings", "onboarding",
+            "errors", "notifications"};
+    private static final String[] WORDS = {"your", "order", "account", "please", "save", "cancel", "continue",
+            "payment", "address", "delivery", "review", "change", "password", "item", "cart", "select", "confirm",
+            "update", "sign", "profile", "help", "details", "total", "shipping"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LocaleRepository localeRepository;
+    private final TagRepository tagRepository;
+    private final LocaleTagDictionary dictionary;
+    private final long rows;
+    private final int localeCount;
+    private final int tagCount;
+    private final long seed;
+
+    SyntheticDataset(JdbcTemplate jdbcTemplate, LocaleRepository localeRepository, TagRepository tagRepository,
+                     LocaleTagDictionary dictionary,
+                     @Value("${load.rows:200000}") long rows,
+                     @Value("${load.locales:60}") int localeCount,
+                     @Value("${load.tags:300}") int tagCount,
+                     @Value("${load.seed:42}") long seed) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.localeRepository = localeRepository;
+        this.tagRepository = tagRepository;
+        this.dictionary = dictionary;
+        this.rows = rows;
+        this.localeCount = localeCount;
+        this.tagCount = tagCount;
+        this.seed = seed;
+    }
+
+    @Override
+    public void run(String... args) {
+        long start = System.nanoTime();
+        List<Locale> locales = new ArrayList<>(localeCount);
+        for (int rank = 0; rank < localeCount; rank++) {
+            String code = rank < LOCALE_CODES.length ? LOCALE_CODES[rank] : "x-" + rank;
+            locales.add(localeRepository.save(new Locale(null, code)));
+        }
+        List<Tag> tags = new ArrayList<>(tagCount);
+        for (int rank = 0; rank < tagCount; rank++) {
+            tags.add(tagRepository.save(new Tag(null, AREAS[rank % AREAS.length] + "-" + rank)));
+        }
+        dictionary.refresh();
+
+        Random random = new Random(seed);
+        double[] tagPopularity = zipf(tagCount, 1.1);
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        long written = 0;
+        for (int key = 0; written < rows; key++) {
+            String name = AREAS[key % AREAS.length] + "." + WORDS[random.nextInt(WORDS.length)] + "_" + key;
+            Long tagId = tags.get(pick(tagPopularity, random)).getId();
+            for (int rank = 0; rank < locales.size() && written < rows; rank++) {
+                if (random.nextDouble() >= coverage(rank)) {
+                    continue;
+                }
+                Locale locale = locales.get(rank);
+                batch.add(new Object[]{name, content(random, locale.getCode()), locale.getId(), tagId,
+                        Timestamp.valueOf(now.minusMinutes(random.nextInt(90 * 24 * 60)))});
+                written++;
+                if (batch.size() == BATCH_SIZE) {
+                    jdbcTemplate.batchUpdate(INSERT, batch);
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT, batch);
+        }
+        log.info("Seeded {} translations over {} locales and {} tags in {} ms", written, localeCount, tagCount,
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    // Share of keys a locale has translated, by its rank: the reference locale has all of them
+    private static double coverage(int rank) {
+        return rank == 0 ? 1.0 : 0.25 + 0.7 * Math.exp(-rank / 15.0);
+    }
+
+    private static String content(Random random, String locale) {
+        int words = 1 + (int) Math.min(30, -Math.log(1 - random.nextDouble()) * 5);
+        StringBuilder text = new StringBuilder(locale).append(':');
+        for (int i = 0; i < words; i++) {
+            text.append(' ').append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return text.toString();
+    }
+
+    /**
+     * Cumulative Zipf weights over {@code n} ranks, normalized to end at 1.
+     */
+    static double[] zipf(int n, double exponent) {
+        double[] cumulative = new double[n];
+        double total = 0;
+        for (int rank = 0; rank < n; rank++) {
+            total += 1 / Math.pow(rank + 1, exponent);
+            cumulative[rank] = total;
+        }
+        for (int rank = 0; rank < n; rank++) {
+            cumulative[rank] /= total;
+        }
+        return cumulative;
+    }
+
+    static int pick(double[] cumulative, Random random) {
+        double point = random.nextDouble();
+        int low = 0;
+        int high = cumulative.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cumulative[mid] < point) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,205 @@
+package com.service.translations.load;
+
+import com.service.translations.TranslationsApplication;
+import com.service.translations.dto.LocaleRequestDTO;
+import com.service.translations.dto.TagRequestDTO;
+import com.service.translations.dto.TranslationRequestDTO;
+import com.service.translations.service.LocaleService;
+import com.service.translations.service.TagService;
+import com.service.translations.service.TranslationService;
+import com.service.translations.util.VirtualThreads;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.TypeExcludeFilter;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Many concurrent clients paging {@code /exportByLocalAndTag} against a slow database, once on Tomcat's
+ * platform pool and once on virtual threads. Every statement waits {@value #SLOW_QUERY_MS} ms before it
+ * runs, as against a distant or busy database, and the connection pool is sized so that the request
+ * threads, not the pool, are the limit on the platform run.
+ * <p>
+ * Run with {@code mvn test -Pload-test -Dtest=VirtualThreadLoadTest}, on JDK 21+ for the comparison
+ * (e.g. {@code -Dsurefire.jvm=/path/to/jdk-21/bin/java}); older JDKs measure the platform run and skip the rest.
+ */
+@Tag("load")
+class VirtualThreadLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadLoadTest.class);
+
+    private static final int PLATFORM_THREADS = 50;
+    private static final int CONNECTIONS = 200;
+    private static final int CLIENTS = 1000;
+    private static final long SLOW_QUERY_MS = 100;
+    private static final String LOCALE = "vt-load";
+
+    @Test
+    void virtualThreads_manyClientsOnASlowDatabase_higherThroughput() throws Exception {
+        double platform = requestsPerSecond(false);
+        log.info("{} clients, {} ms per statement: platform threads {} req/s", CLIENTS, SLOW_QUERY_MS, Math.round(platform));
+        Assumptions.assumeTrue(VirtualThreads.isSupported(), "virtual threads need JDK 21+");
+
+        double virtual = requestsPerSecond(true);
+        log.info("{} clients, {} ms per statement: platform threads {} req/s, virtual threads {} req/s",
+                CLIENTS, SLOW_QUERY_MS, Math.round(platform), Math.round(virtual));
+        assertTrue(virtual > platform * 2, "virtual threads should at least double throughput");
+    }
+
+    private double requestsPerSecond(boolean virtualThreads) throws Exception {
+        SlowDatabase.enabled = false;
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TranslationsApplication.class, SlowDatabase.class)
+                .initializers(VirtualThreadLoadTest::excludeTestConfigurations)
+                .run("--server.port=0",
+                        "--server.tomcat.threads.max=" + PLATFORM_THREADS,
+                        "--server.tomcat.max-connections=" + (CLIENTS * 2),
+                        "--server.tomcat.accept-count=" + CLIENTS,
+                        "--spring.datasource.hikari.maximum-pool-size=" + CONNECTIONS,
+                        "--translations.virtual-threads.jdbc-max-concurrency=" + CONNECTIONS,
+                        "--translations.virtual-threads.enabled=" + virtualThreads)) {
+            seed(context);
+            int port = Integer.parseInt(context.getEnvironment().getProperty("local.server.port"));
+            HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(30)).build();
+            String token = login(client, port);
+
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port
+                            + "/api/translations/exportByLocalAndTag?locale=" + LOCALE + "&size=10"))
+                    .header("Authorization", "Bearer " + token)
+                    .timeout(Duration.ofMinutes(2))
+                    .build();
+            // Warms the page cache and the principal cache, so every measured request is the validator query
+            assertEquals(200, client.send(request, HttpResponse.BodyHandlers.ofString()).statusCode());
+            SlowDatabase.statements.reset();
+            SlowDatabase.enabled = true;
+
+            long start = System.nanoTime();
+            List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>(CLIENTS);
+            for (int i = 0; i < CLIENTS; i++) {
+                responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.ofString()));
+            }
+            for (CompletableFuture<HttpResponse<String>> response : responses) {
+                assertEquals(200, response.join().statusCode());
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+            log.info("{} threads: {} statements per request", virtualThreads ? "virtual" : "platform",
+                    SlowDatabase.statements.sum() / (double) CLIENTS);
+            return CLIENTS / seconds;
+        } finally {
+            SlowDatabase.enabled = false;
+        }
+    }
+
+    private static void seed(ConfigurableApplicationContext context) {
+        LocaleRequestDTO locale = context.getBean(LocaleService.class).create(new LocaleRequestDTO(null, LOCALE));
+        TagRequestDTO tag = context.getBean(TagService.class).create(new TagRequestDTO(null, LOCALE + "-web"));
+        TranslationService translations = context.getBean(TranslationService.class);
+        for (int i = 0; i < 20; i++) {
+            translations.create(new TranslationRequestDTO("key." + i, locale.getId(), "Content " + i, tag.getId()));
+        }
+    }
+
+    // Outside the test context framework, component scanning would otherwise pick up @TestConfiguration classes
+    private static void excludeTestConfigurations(ConfigurableApplicationContext context) {
+        context.getBeanFactory().registerSingleton("loadTestTypeExcludeFilter", new TypeExcludeFilter() {
+            @Override
+            public boolean match(MetadataReader reader, MetadataReaderFactory factory) {
+                return reader.getAnnotationMetadata().hasAnnotation(TestConfiguration.class.getName());
+            }
+        });
+    }
+
+    private static String login(HttpClient client, int port) throws Exception {
+        HttpRequest login = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"username\":\"admin\",\"password\":\"12345678\"}"))
+                .build();
+        String body = client.send(login, HttpResponse.BodyHandlers.ofString()).body();
+        return body.replaceAll(".*\"token\"\\s*:\\s*\"([^\"]+)\".*", "$1");
+    }
+
+    // Registered explicitly rather than scanned, so other application contexts never see it. Statements run
+    // at full speed while the application starts and the test sets up its data
+    static class SlowDatabase implements BeanPostProcessor {
+
+        static volatile boolean enabled;
+        static final LongAdder statements = new LongAdder();
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource)) {
+                return bean;
+            }
+            return new DelegatingDataSource((DataSource) bean) {
+                @Override
+                public Connection getConnection() throws SQLException {
+                    return slow(super.getConnection(), Connection.class);
+                }
+
+                @Override
+                public Connection getConnection(String username, String password) throws SQLException {
+                    return slow(super.getConnection(username, password), Connection.class);
+                }
+            };
+        }
+
+        // Statements handed out by the connection are wrapped too, and wait before each execute call
+        private static <T> T slow(T target, Class<T> type) {
+            return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "equals":
+                        return proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    default:
+                        break;
+                }
+                if (enabled && target instanceof Statement && method.getName().startsWith("execute")) {
+                    statements.increment();
+                    Thread.sleep(SLOW_QUERY_MS);
+                }
+                Object result;
+                try {
+                    result = method.invoke(target, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+                if (result instanceof Statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                    return slowStatement(result, method.getReturnType());
+                }
+                return result;
+            }));
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> Object slowStatement(Object statement, Class<T> type) {
+            return slow((T) statement, type);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.service.translations.repository;
+
+import com.service.translations.dto.LocaleRequestDTO;
+import com.service.translations.dto.TagRequestDTO;
+import com.service.translations.dto.TranslationRequestDTO;
+import com.service.translations.entity.Translation;
+import com.service.translations.event.TranslationsReloadedEvent;
+import com.service.translations.service.LocaleService;
+import com.service.translations.service.TagService;
+import com.service.translations.service.TranslationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class TranslationExportProjectionIntegrationTest {
+
+    private static final AtomicInteger NAMES = new AtomicInteger();
+
+    @Autowired
+    private TranslationExportProjection projection;
+
+    @Autowired
+    private TranslationService service;
+
+    @Autowired
+    private LocaleService localeService;
+
+    @Autowired
+    private TagService tagService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private LocaleRequestDTO locale;
+    private TagRequestDTO tag;
+
+    // Every test works in a locale and tag of its own, since the context and its database are shared
+    @BeforeEach
+    void setUp() {
+        int n = NAMES.incrementAndGet();
+        locale = localeService.create(new LocaleRequestDTO(null, "proj-" + n));
+        tag = tagService.create(new TagRequestDTO(null, "proj-tag-" + n));
+    }
+
+    @Test
+    void writes_areMirroredInTheReadModel() {
+        Translation translation = create("greeting", "Hello");
+        assertEquals(List.of(Map.of("LOCALE_CODE", locale.getCode(), "TAG_NAME", tag.getName(), "CONTENT", "Hello")),
+                exported(translation.getId()));
+
+        service.update(translation.getId(), new TranslationRequestDTO("greeting", locale.getId(), "Hi", tag.getId()));
+        assertEquals("Hi", exportedContent(translation.getId()));
+
+        service.delete(translation.getId());
+        assertTrue(exported(translation.getId()).isEmpty());
+    }
+
+    @Test
+    void write_rolledBack_leavesNoRow() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        Long id = transaction.execute(status -> {
+            status.setRollbackOnly();
+            return create("greeting", "Hello").getId();
+        });
+
+        assertTrue(exported(id).isEmpty());
+    }
+
+    @Test
+    void reloaded_copiesTheLocaleBackFromTheNormalizedTables() {
+        Translation translation = create("greeting", "Hello");
+        jdbcTemplate.update("delete from translation_export where locale_code = ?", locale.getCode());
+
+        eventPublisher.publishEvent(new TranslationsReloadedEvent(Set.of(locale.getCode())));
+
+        assertEquals("Hello", exportedContent(translation.getId()));
+    }
+
+    @Test
+    void reconcileOnStartup_sameCountButStaleRow_rebuilds() {
+        Translation translation = create("greeting", "Hello");
+        jdbcTemplate.update("update translation_export set content = 'Stale', updated_at = updated_at - interval '1' day "
+                + "where translation_id = ?", translation.getId());
+
+        projection.reconcileOnStartup();
+
+        assertEquals("Hello", exportedContent(translation.getId()));
+    }
+
+    private List<Map<String, Object>> exported(Long id) {
+        return jdbcTemplate.queryForList("select locale_code, tag_name, content from translation_export "
+                + "where translation_id = ?", id);
+    }
+
+    private String exportedContent(Long id) {
+        return jdbcTemplate.queryForObject("select content from translation_export where translation_id = ?",
+                String.class, id);
+    }
+
+    private Translation create(String key, String content) {
+        return service.create(new TranslationRequestDTO(key, locale.getId(), content, tag.getId()));
+    }
+}
@@ -0,0 +1,133 @@
+package com.service.translations.search;
+
+import com.service.translations.dto.CursorPageDTO;
+import com.service.translations.dto.FullTranslationExportDTO;
+import com.service.translations.dto.TranslationKeyDTO;
+import com.service.translations.event.TranslationChangedEvent;
+import com.service.translations.repository.TranslationExportRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TranslationKeyIndexTest {
+
+    @Mock
+    private TranslationExportRepository repo;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TranslationKeyIndex index;
+    private long ids;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.initMocks(this);
+        index = new TranslationKeyIndex(repo, new TransactionTemplate(transactionManager));
+    }
+
+    @Test
+    public void find_withoutWildcards_matchesAPrefix() {
+        load(row("checkout.title", "web"), row("checkout.total", "web"), row("checkoutx", "web"), row("cart.title", "web"));
+
+        assertEquals(List.of("checkout.title", "checkout.total", "checkoutx"), keys(index.find("en", "checkout", null, null, 10)));
+        assertEquals(List.of("checkout.title"), keys(index.find("en", "Checkout.Ti", null, null, 10)));
+    }
+
+    @Test
+    public void find_glob_matchesStarAndQuestionMark() {
+        load(row("page.home.title", "web"), row("page.cart.title", "web"), row("page.home.subtitle", "web"),
+                row("page.a.title", "web"));
+
+        assertEquals(List.of("page.a.title", "page.cart.title", "page.home.title"),
+                keys(index.find("en", "page.*.title", null, null, 10)));
+        assertEquals(List.of("page.a.title"), keys(index.find("en", "page.?.title", null, null, 10)));
+        assertEquals(List.of("page.home.subtitle", "page.home.title"), keys(index.find("en", "*home*", null, null, 10)));
+    }
+
+    @Test
+    public void find_glob_treatsRegexCharactersAsLiterals() {
+        load(row("a.b", "web"), row("axb", "web"), row("a+b(1)", "web"));
+
+        assertEquals(List.of("a.b"), keys(index.find("en", "a.?", null, null, 10)));
+        assertEquals(List.of("a+b(1)"), keys(index.find("en", "*+b(?)", null, null, 10)));
+    }
+
+    @Test
+    public void find_groupsTagsOfAKeyAndFiltersByTag() {
+        load(row("title", "web"), row("title", "mobile"), row("footer", "web"), row("untagged", null));
+
+        CursorPageDTO<TranslationKeyDTO> all = index.find("en", "", null, null, 10);
+        CursorPageDTO<TranslationKeyDTO> mobile = index.find("en", "", "mobile", null, 10);
+
+        assertEquals(List.of(new TranslationKeyDTO("footer", List.of("web")),
+                new TranslationKeyDTO("title", List.of("mobile", "web")),
+                new TranslationKeyDTO("untagged", List.of())), all.getContent());
+        assertEquals(List.of("title"), keys(mobile));
+    }
+
+    @Test
+    public void find_pagesAfterTheCursorKey() {
+        load(row("k1", "web"), row("k2", "web"), row("k3", "web"));
+
+        CursorPageDTO<TranslationKeyDTO> first = index.find("en", "k", null, null, 2);
+        CursorPageDTO<TranslationKeyDTO> second = index.find("en", "k", null, first.getNextCursor(), 2);
+
+        assertEquals(List.of("k1", "k2"), keys(first));
+        assertTrue(first.isHasMore());
+        assertEquals("k2", first.getNextCursor());
+        assertEquals(List.of("k3"), keys(second));
+        assertFalse(second.isHasMore());
+    }
+
+    @Test
+    public void events_patchTheLoadedLocale() {
+        FullTranslationExportDTO old = row("old", "web");
+        load(old, row("kept", "web"));
+        index.find("en", "", null, null, 10);
+
+        index.onTranslationChanged(TranslationChangedEvent.created(row("new", "web")));
+        index.onTranslationChanged(TranslationChangedEvent.deleted(old));
+
+        assertEquals(List.of("kept", "new"), keys(index.find("en", "", null, null, 10)));
+        verify(repo, times(1)).streamAllByLocale("en");
+    }
+
+    @Test
+    public void load_overtakenByAWrite_answersOnceAndIsNotKept() {
+        when(repo.streamAllByLocale("en")).thenAnswer(invocation -> {
+            index.onTranslationChanged(TranslationChangedEvent.created(row("late", "web")));
+            return Stream.of(row("early", "web"));
+        }).thenAnswer(invocation -> Stream.of(row("early", "web"), row("late", "web")));
+
+        assertEquals(List.of("early"), keys(index.find("en", "", null, null, 10)));
+        assertEquals(List.of("early", "late"), keys(index.find("en", "", null, null, 10)));
+        verify(repo, times(2)).streamAllByLocale("en");
+    }
+
+    private void load(FullTranslationExportDTO... rows) {
+        when(repo.streamAllByLocale("en")).thenReturn(Stream.of(rows));
+    }
+
+    private FullTranslationExportDTO row(String key, String tag) {
+        return new FullTranslationExportDTO(++ids, "en", key, key, tag, null);
+    }
+
+    private static List<String> keys(CursorPageDTO<TranslationKeyDTO> page) {
+        return page.getContent().stream().map(TranslationKeyDTO::getKey).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,190 @@
+package com.service.translations.search;
+
+import com.service.translations.cache.LocaleTagDictionary;
+import com.service.translations.dto.FullTranslationExportDTO;
+import com.service.translations.dto.TranslationSearchHitDTO;
+import com.service.translations.entity.Locale;
+import com.service.translations.event.TranslationChangedEvent;
+import com.service.translations.repository.TranslationExportRepository;
+import org.apache.lucene.analysis.en.EnglishAnalyzer;
+import org.apache.lucene.analysis.fr.FrenchAnalyzer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+public class TranslationSearchIndexTest {
+
+    @Mock
+    private TranslationExportRepository repo;
+
+    @Mock
+    private LocaleTagDictionary dictionary;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    Path indexDir;
+
+    private TranslationSearchIndex index;
+    private long ids;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        MockitoAnnotations.initMocks(this);
+        index = new TranslationSearchIndex(repo, dictionary, new TransactionTemplate(transactionManager),
+                indexDir.toString(), 2, new SyncTaskExecutor());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        index.close();
+    }
+
+    @Test
+    public void contentAnalyzer_followsTheLanguageOfTheLocale() {
+        assertTrue(TranslationSearchIndex.contentAnalyzer("en") instanceof EnglishAnalyzer);
+        assertTrue(TranslationSearchIndex.contentAnalyzer("fr-CA") instanceof FrenchAnalyzer);
+        assertTrue(TranslationSearchIndex.contentAnalyzer("zz_ZZ") instanceof StandardAnalyzer);
+    }
+
+    @Test
+    public void content_isStemmedOnlyForLanguagesWithAnAnalyzer() throws IOException {
+        locales("en", "zz");
+        when(repo.streamAllByLocale("en")).thenReturn(Stream.of(row("en", "shoes", "Running shoes", "web")));
+        when(repo.streamAllByLocale("zz")).thenReturn(Stream.of(row("zz", "shoes", "Running shoes", "web")));
+
+        index.rebuildOnStartup();
+
+        assertEquals(List.of("shoes"), keys("en", "run"));
+        assertTrue(keys("zz", "run").isEmpty());
+        assertEquals(List.of("shoes"), keys("zz", "running"));
+    }
+
+    @Test
+    public void keys_areSearchableByTheirPartsAndOutrankContent() throws IOException {
+        locales("en");
+        when(repo.streamAllByLocale("en")).thenReturn(Stream.of(
+                row("en", "misc.text", "Payment", "web"),
+                row("en", "payment.title", "Heading", "web"),
+                row("en", "checkout.button_label", "Pay now", "web")));
+
+        index.rebuildAll();
+
+        assertEquals(List.of("checkout.button_label"), keys("en", "button"));
+        assertEquals(List.of("payment.title", "misc.text"), keys("en", "payment"));
+    }
+
+    @Test
+    public void search_filtersByTagAndPages() throws IOException {
+        locales("en");
+        when(repo.streamAllByLocale("en")).thenReturn(Stream.of(
+                row("en", "a", "Hello there", "web"),
+                row("en", "b", "Hello again", "mobile"),
+                row("en", "c", "Hello world", "web")));
+        index.rebuildAll();
+
+        assertEquals(List.of("b"), keys("en", "hello", "mobile"));
+        assertEquals(3, index.search("en", "hello", null, 0, 2).getTotalHits());
+        assertEquals(1, index.search("en", "hello", null, 1, 2).getHits().size());
+        assertTrue(index.search("unknown", "hello", null, 0, 10).getHits().isEmpty());
+    }
+
+    @Test
+    public void changesCommittedDuringARebuild_areReplayedOntoTheRebuiltIndex() throws IOException {
+        locales("en");
+        FullTranslationExportDTO updated = row("en", "greeting", "Hello", "web");
+        FullTranslationExportDTO deleted = row("en", "farewell", "Goodbye", "web");
+        FullTranslationExportDTO moved = row("en", "title", "Welcome", "web");
+        when(repo.streamAllByLocale("en")).thenAnswer(invocation -> {
+            // Committed after the scan read its rows, so only the queued events carry them
+            index.onTranslationChanged(TranslationChangedEvent.created(row("en", "created", "Fresh", "web")));
+            index.onTranslationChanged(TranslationChangedEvent.updated(updated, copy(updated, "en", "Howdy")));
+            index.onTranslationChanged(TranslationChangedEvent.deleted(deleted));
+            index.onTranslationChanged(TranslationChangedEvent.updated(moved, copy(moved, "fr", "Bienvenue")));
+            return Stream.of(updated, deleted, moved);
+        });
+
+        index.rebuildAll();
+
+        assertEquals(List.of("created"), keys("en", "fresh"));
+        assertEquals(List.of("greeting"), keys("en", "howdy"));
+        assertTrue(keys("en", "hello").isEmpty());
+        assertTrue(keys("en", "goodbye").isEmpty());
+        assertTrue(keys("en", "welcome").isEmpty());
+        assertEquals(List.of("title"), keys("fr", "bienvenue"));
+    }
+
+    @Test
+    public void changesAfterARebuild_areAppliedDirectly() throws IOException {
+        locales("en");
+        FullTranslationExportDTO updated = row("en", "greeting", "Hello", "web");
+        FullTranslationExportDTO deleted = row("en", "farewell", "Goodbye", "web");
+        FullTranslationExportDTO moved = row("en", "title", "Welcome", "web");
+        when(repo.streamAllByLocale("en")).thenReturn(Stream.of(updated, deleted, moved));
+        index.rebuildAll();
+
+        index.onTranslationChanged(TranslationChangedEvent.created(row("en", "created", "Fresh", "web")));
+        index.onTranslationChanged(TranslationChangedEvent.updated(updated, copy(updated, "en", "Howdy")));
+        index.onTranslationChanged(TranslationChangedEvent.deleted(deleted));
+        index.onTranslationChanged(TranslationChangedEvent.updated(moved, copy(moved, "fr", "Bienvenue")));
+
+        assertEquals(List.of("created"), keys("en", "fresh"));
+        assertEquals(List.of("greeting"), keys("en", "howdy"));
+        assertTrue(keys("en", "hello").isEmpty());
+        assertTrue(keys("en", "goodbye").isEmpty());
+        assertTrue(keys("en", "welcome").isEmpty());
+        assertEquals(List.of("title"), keys("fr", "bienvenue"));
+    }
+
+    @Test
+    public void secondInstance_onTheSameDirectory_failsToStart() {
+        assertThrows(IllegalStateException.class, () -> new TranslationSearchIndex(repo, dictionary,
+                new TransactionTemplate(transactionManager), indexDir.toString(), 2, new SyncTaskExecutor()));
+    }
+
+    private void locales(String... codes) {
+        long id = 0;
+        List<Locale> locales = new ArrayList<>();
+        for (String code : codes) {
+            locales.add(new Locale(++id, code));
+        }
+        when(dictionary.locales()).thenReturn(locales);
+    }
+
+    private List<String> keys(String locale, String text) throws IOException {
+        return keys(locale, text, null);
+    }
+
+    private List<String> keys(String locale, String text, String tag) throws IOException {
+        return index.search(locale, text, tag, 0, 10).getHits().stream()
+                .map(TranslationSearchHitDTO::getKey).collect(Collectors.toList());
+    }
+
+    private FullTranslationExportDTO row(String locale, String key, String content, String tag) {
+        return new FullTranslationExportDTO(++ids, locale, key, content, tag, null);
+    }
+
+    private static FullTranslationExportDTO copy(FullTranslationExportDTO row, String locale, String content) {
+        return new FullTranslationExportDTO(row.getId(), locale, row.getKey(), content, row.getTagName(), null);
+    }
+}
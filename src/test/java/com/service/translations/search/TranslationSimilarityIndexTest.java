@@ -0,0 +1,118 @@
+package com.service.translations.search;
+
+import com.service.translations.dto.FullTranslationExportDTO;
+import com.service.translations.dto.TranslationSearchHitDTO;
+import com.service.translations.event.TranslationChangedEvent;
+import com.service.translations.repository.TranslationExportRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+public class TranslationSimilarityIndexTest {
+
+    @Mock
+    private TranslationExportRepository repo;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TranslationSimilarityIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.initMocks(this);
+        index = new TranslationSimilarityIndex(repo, new TransactionTemplate(transactionManager));
+    }
+
+    @Test
+    public void trigrams_foldCaseAndTreatPunctuationAsAWordBreak() {
+        assertArrayEquals(TranslationSimilarityIndex.trigrams("sign in"), TranslationSimilarityIndex.trigrams("Sign-In!"));
+        assertEquals(0, TranslationSimilarityIndex.trigrams(" - ").length);
+        assertEquals(0, TranslationSimilarityIndex.trigrams(null).length);
+    }
+
+    @Test
+    public void trigrams_areDistinctAndSorted() {
+        // "  aa aa ": the repeated word only adds "a a", the trigram spanning the gap
+        long[] grams = TranslationSimilarityIndex.trigrams("aa aa");
+
+        assertEquals(TranslationSimilarityIndex.trigrams("aa").length + 1, grams.length);
+        for (int i = 1; i < grams.length; i++) {
+            assertTrue(grams[i - 1] < grams[i]);
+        }
+    }
+
+    @Test
+    public void similar_scoresByJaccardOfTheBetterField() {
+        load(row(1L, "auth.sign_in", "Sign in"), row(2L, "auth.sign_out", "Sign out"), row(3L, "cart.total", "Total"));
+
+        List<TranslationSearchHitDTO> hits = index.similar("en", null, "Sign-in", 0.0, 10);
+
+        assertEquals(List.of(1L, 2L), ids(hits));
+        assertEquals(1.0f, hits.get(0).getScore());
+        // "  sign in " and "  sign out " share 5 of their 8 and 9 trigrams: 5 / (8 + 9 - 5)
+        assertEquals(5f / 12, hits.get(1).getScore(), 1e-6);
+        assertEquals(List.of(3L), ids(index.similar("en", "cart.totals", null, 0.5, 10)));
+    }
+
+    @Test
+    public void similar_appliesThresholdAndLimit() {
+        load(row(1L, "a", "Sign in"), row(2L, "b", "Sign out"), row(3L, "c", "Sign in now"));
+
+        assertEquals(List.of(1L), ids(index.similar("en", null, "sign in", 0.9, 10)));
+        assertEquals(List.of(1L, 3L), ids(index.similar("en", null, "sign in", 0.0, 2)));
+    }
+
+    @Test
+    public void updates_replaceTheOldTextAndCompactionKeepsLiveDocs() {
+        FullTranslationExportDTO current = row(1L, "greeting", "Hello world");
+        load(current, row(2L, "farewell", "Goodbye world"));
+        index.similar("en", null, "hello", 0.0, 10);
+
+        // Enough updates to retire more docs than the compaction floor
+        for (int i = 0; i < 1500; i++) {
+            FullTranslationExportDTO next = row(1L, "greeting", "Version " + i);
+            index.onTranslationChanged(TranslationChangedEvent.updated(current, next));
+            current = next;
+        }
+
+        assertTrue(index.similar("en", null, "Hello world", 0.5, 10).isEmpty());
+        assertEquals(List.of(1L), ids(index.similar("en", null, "Version 1499", 1.0, 10)));
+        assertEquals(List.of(2L), ids(index.similar("en", null, "Goodbye world", 1.0, 10)));
+    }
+
+    @Test
+    public void delete_removesTheTranslation() {
+        FullTranslationExportDTO gone = row(1L, "a", "Sign in");
+        load(gone, row(2L, "b", "Sign in"));
+        index.similar("en", null, "sign in", 0.0, 10);
+
+        index.onTranslationChanged(TranslationChangedEvent.deleted(gone));
+
+        assertEquals(List.of(2L), ids(index.similar("en", null, "sign in", 0.0, 10)));
+    }
+
+    private void load(FullTranslationExportDTO... rows) {
+        when(repo.streamAllByLocale("en")).thenReturn(Stream.of(rows));
+    }
+
+    private static FullTranslationExportDTO row(Long id, String key, String content) {
+        return new FullTranslationExportDTO(id, "en", key, content, "web", null);
+    }
+
+    private static List<Long> ids(List<TranslationSearchHitDTO> hits) {
+        return hits.stream().map(TranslationSearchHitDTO::getId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,94 @@
+package com.service.translations.serviceImplementation;
+
+import com.service.translations.cache.LocaleTagDictionary;
+import com.service.translations.dto.LocaleRequestDTO;
+import com.service.translations.dto.TagRequestDTO;
+import com.service.translations.entity.Locale;
+import com.service.translations.entity.Tag;
+import com.service.translations.service.LocaleService;
+import com.service.translations.service.TagService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class LocaleTagServiceIntegrationTest {
+
+    // Every test works in locales and tags of its own, since the context and its database are shared
+    private static final AtomicInteger NAMES = new AtomicInteger();
+
+    @Autowired
+    private LocaleService localeService;
+
+    @Autowired
+    private TagService tagService;
+
+    @Autowired
+    private LocaleTagDictionary dictionary;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void writes_areVisibleInTheDictionaryAsSoonAsTheyReturn() {
+        int n = NAMES.incrementAndGet();
+        LocaleRequestDTO locale = localeService.create(new LocaleRequestDTO(null, "dict-" + n));
+        TagRequestDTO tag = tagService.create(new TagRequestDTO(null, "dict-tag-" + n));
+        assertEquals(locale.getId(), dictionary.locale(locale.getCode()).map(Locale::getId).orElse(null));
+        assertEquals(tag.getId(), dictionary.tag(tag.getName()).map(Tag::getId).orElse(null));
+
+        localeService.update(locale.getId(), new LocaleRequestDTO(locale.getId(), "dict-" + n + "-renamed"));
+        tagService.update(tag.getId(), new TagRequestDTO(tag.getId(), "dict-tag-" + n + "-renamed"));
+        assertEquals("dict-" + n + "-renamed", dictionary.locale(locale.getId()).map(Locale::getCode).orElse(null));
+        assertEquals("dict-tag-" + n + "-renamed", dictionary.tag(tag.getId()).map(Tag::getName).orElse(null));
+
+        localeService.delete(locale.getId());
+        tagService.delete(tag.getId());
+        assertFalse(dictionary.locale(locale.getId()).isPresent());
+        assertFalse(dictionary.tag(tag.getId()).isPresent());
+    }
+
+    @Test
+    void update_inACallersTransaction_reachesTheDictionaryOnlyOnCommit() {
+        int n = NAMES.incrementAndGet();
+        LocaleRequestDTO locale = localeService.create(new LocaleRequestDTO(null, "dict-" + n));
+        TagRequestDTO tag = tagService.create(new TagRequestDTO(null, "dict-tag-" + n));
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        transaction.executeWithoutResult(status -> {
+            localeService.update(locale.getId(), new LocaleRequestDTO(locale.getId(), "dict-" + n + "-renamed"));
+            tagService.update(tag.getId(), new TagRequestDTO(tag.getId(), "dict-tag-" + n + "-renamed"));
+            assertEquals(locale.getCode(), dictionary.locale(locale.getId()).map(Locale::getCode).orElse(null));
+            assertEquals(tag.getName(), dictionary.tag(tag.getId()).map(Tag::getName).orElse(null));
+        });
+
+        assertEquals("dict-" + n + "-renamed", dictionary.locale(locale.getId()).map(Locale::getCode).orElse(null));
+        assertEquals("dict-tag-" + n + "-renamed", dictionary.tag(tag.getId()).map(Tag::getName).orElse(null));
+    }
+
+    @Test
+    void writes_rolledBackWithTheCallersTransaction_neverReachTheDictionary() {
+        int n = NAMES.incrementAndGet();
+        LocaleRequestDTO locale = localeService.create(new LocaleRequestDTO(null, "dict-" + n));
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        transaction.executeWithoutResult(status -> {
+            localeService.update(locale.getId(), new LocaleRequestDTO(locale.getId(), "dict-" + n + "-renamed"));
+            localeService.create(new LocaleRequestDTO(null, "dict-" + n + "-created"));
+            status.setRollbackOnly();
+        });
+
+        assertEquals(locale.getCode(), dictionary.locale(locale.getId()).map(Locale::getCode).orElse(null));
+        assertTrue(dictionary.locale(locale.getCode()).isPresent());
+        assertFalse(dictionary.locale("dict-" + n + "-renamed").isPresent());
+        assertFalse(dictionary.locale("dict-" + n + "-created").isPresent());
+    }
+}
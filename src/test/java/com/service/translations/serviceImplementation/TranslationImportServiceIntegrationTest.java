@@ -0,0 +1,97 @@
+package com.service.translations.serviceImplementation;
+
+import com.service.translations.dto.LocaleRequestDTO;
+import com.service.translations.dto.TagRequestDTO;
+import com.service.translations.dto.TranslationImportResultDTO;
+import com.service.translations.dto.TranslationImportRowDTO;
+import com.service.translations.dto.TranslationRequestDTO;
+import com.service.translations.service.LocaleService;
+import com.service.translations.service.TagService;
+import com.service.translations.service.TranslationImportService;
+import com.service.translations.service.TranslationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+class TranslationImportServiceIntegrationTest {
+
+    private static final AtomicInteger NAMES = new AtomicInteger();
+
+    @Autowired
+    private TranslationImportService importService;
+
+    @Autowired
+    private TranslationService service;
+
+    @Autowired
+    private LocaleService localeService;
+
+    @Autowired
+    private TagService tagService;
+
+    private LocaleRequestDTO locale;
+    private TagRequestDTO tag;
+
+    // Every test works in a locale and tag of its own, since the context and its database are shared
+    @BeforeEach
+    void setUp() {
+        int n = NAMES.incrementAndGet();
+        locale = localeService.create(new LocaleRequestDTO(null, "imp-" + n));
+        tag = tagService.create(new TagRequestDTO(null, "imp-tag-" + n));
+    }
+
+    @Test
+    void importRows_chunkWithAFailingRow_replaysRowByRowAndKeepsTheRest() {
+        String tooLong = "k".repeat(300);
+
+        TranslationImportResultDTO result = importService.importRows(List.of(
+                row("first", "First"), row(tooLong, "Too long"), row("third", "Third")), false);
+
+        assertEquals(3, result.getReceived());
+        assertEquals(2, result.getInserted());
+        assertEquals(1, result.getFailed());
+        assertEquals(2, result.getErrors().get(0).getRow());
+        assertEquals(Map.of("first", "First", "third", "Third"), service.exportBundle(locale.getCode(), null));
+    }
+
+    @Test
+    void importRows_existingSlot_isReportedUnlessUpserting() {
+        service.create(new TranslationRequestDTO("greeting", locale.getId(), "Hello", tag.getId()));
+
+        TranslationImportResultDTO rejected = importService.importRows(List.of(row("greeting", "Hi")), false);
+        TranslationImportResultDTO upserted = importService.importRows(
+                List.of(row("greeting", "Hi"), row("farewell", "Bye")), true);
+
+        assertEquals(1, rejected.getFailed());
+        assertEquals("Duplicate translation key for the selected locale and tag", rejected.getErrors().get(0).getMessage());
+        assertEquals(1, upserted.getInserted());
+        assertEquals(1, upserted.getUpdated());
+        assertEquals(Map.of("greeting", "Hi", "farewell", "Bye"), service.exportBundle(locale.getCode(), null));
+    }
+
+    @Test
+    void importRows_invalidRows_areReportedWithoutAWrite() {
+        TranslationImportResultDTO result = importService.importRows(List.of(
+                row("ok", "Ok"),
+                new TranslationImportRowDTO("bad-locale", "missing-locale", tag.getName(), "x"),
+                row("ok", "Again"),
+                row(" ", "Blank")), false);
+
+        assertEquals(1, result.getInserted());
+        assertEquals(List.of(2, 3, 4), result.getErrors().stream().map(TranslationImportResultDTO.RowError::getRow)
+                .collect(Collectors.toList()));
+    }
+
+    private TranslationImportRowDTO row(String key, String content) {
+        return new TranslationImportRowDTO(key, locale.getCode(), tag.getName(), content);
+    }
+}
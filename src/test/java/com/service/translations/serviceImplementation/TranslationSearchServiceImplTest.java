@@ -0,0 +1,76 @@
+package com.service.translations.serviceImplementation;
+
+import com.service.translations.cache.LocaleTagDictionary;
+import com.service.translations.dto.FullTextSearchResultDTO;
+import com.service.translations.entity.Locale;
+import com.service.translations.exception.CustomException;
+import com.service.translations.search.TranslationKeyIndex;
+import com.service.translations.search.TranslationSearchIndex;
+import com.service.translations.search.TranslationSimilarityIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TranslationSearchServiceImplTest {
+
+    @Mock
+    private TranslationSearchIndex index;
+
+    @Mock
+    private TranslationKeyIndex keyIndex;
+
+    @Mock
+    private TranslationSimilarityIndex similarityIndex;
+
+    @Mock
+    private LocaleTagDictionary dictionary;
+
+    private TranslationSearchServiceImpl service;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.initMocks(this);
+        service = new TranslationSearchServiceImpl(index, keyIndex, similarityIndex, dictionary);
+        when(dictionary.locale("en")).thenReturn(Optional.of(new Locale(1L, "en")));
+    }
+
+    @Test
+    public void fullText_lastPageInsideTheWindow_isSearched() throws IOException {
+        FullTextSearchResultDTO result = new FullTextSearchResultDTO(0, true, 99, 100, List.of());
+        when(index.search("en", "hello", null, 99, 100)).thenReturn(result);
+
+        assertSame(result, service.fullText("en", "hello", null, 99, 100));
+    }
+
+    @Test
+    public void fullText_pagesPastTheWindow_areRejectedWithoutSearching() throws IOException {
+        assertThrows(CustomException.class, () -> service.fullText("en", "hello", null, 100, 100));
+        assertThrows(CustomException.class, () -> service.fullText("en", "hello", null, Integer.MAX_VALUE, 100));
+        assertThrows(CustomException.class, () -> service.fullText("en", "hello", null, -1, 10));
+        verify(index, never()).search(anyString(), anyString(), isNull(), anyInt(), anyInt());
+    }
+
+    @Test
+    public void fullText_invalidSizeOrUnknownLocale_isRejected() {
+        when(dictionary.locale("xx")).thenReturn(Optional.empty());
+
+        assertThrows(CustomException.class, () -> service.fullText("en", "hello", null, 0, 101));
+        assertThrows(CustomException.class, () -> service.fullText("en", "hello", null, 0, 0));
+        assertThrows(CustomException.class, () -> service.fullText("xx", "hello", null, 0, 10));
+        assertThrows(CustomException.class, () -> service.fullText("en", " ", null, 0, 10));
+    }
+}
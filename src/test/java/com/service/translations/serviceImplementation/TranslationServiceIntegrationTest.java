@@ -0,0 +1,292 @@
+package com.service.translations.serviceImplementation;
+
+import com.service.translations.cache.TranslationBundle;
+import com.service.translations.cache.TranslationBundleStore;
+import com.service.translations.config.CacheConfig;
+import com.service.translations.controller.TranslationController;
+import com.service.translations.dto.CursorPageDTO;
+import com.service.translations.dto.FullTranslationExportDTO;
+import com.service.translations.dto.LocaleRequestDTO;
+import com.service.translations.dto.TagRequestDTO;
+import com.service.translations.dto.TranslationDeltaDTO;
+import com.service.translations.dto.TranslationExportDTO;
+import com.service.translations.dto.TranslationRequestDTO;
+import com.service.translations.entity.Translation;
+import com.service.translations.entity.TranslationTombstone;
+import com.service.translations.exception.CustomException;
+import com.service.translations.repository.TranslationTombstoneRepository;
+import com.service.translations.search.TranslationKeyIndex;
+import com.service.translations.service.LocaleService;
+import com.service.translations.service.TagService;
+import com.service.translations.service.TranslationService;
+import com.service.translations.util.SyncToken;
+import com.service.translations.util.TombstonePruner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class TranslationServiceIntegrationTest {
+
+    private static final AtomicInteger NAMES = new AtomicInteger();
+
+    @Autowired
+    private TranslationService service;
+
+    @Autowired
+    private LocaleService localeService;
+
+    @Autowired
+    private TagService tagService;
+
+    @Autowired
+    private TranslationBundleStore bundleStore;
+
+    @Autowired
+    private TranslationTombstoneRepository tombstoneRepository;
+
+    @Autowired
+    private TombstonePruner tombstonePruner;
+
+    @Autowired
+    private TranslationKeyIndex keyIndex;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private TranslationController controller;
+
+    private LocaleRequestDTO locale;
+    private TagRequestDTO tag;
+
+    // Every test works in a locale and tag of its own, since the context and its database are shared
+    @BeforeEach
+    void setUp() {
+        int n = NAMES.incrementAndGet();
+        locale = localeService.create(new LocaleRequestDTO(null, "it-" + n));
+        tag = tagService.create(new TagRequestDTO(null, "it-tag-" + n));
+    }
+
+    @Test
+    void getBundle_afterNewestRowDeletedAndBundleRebuilt_lastModifiedDoesNotGoBack() {
+        create("greeting", "Hello");
+        Translation newest = create("farewell", "Bye");
+        Instant beforeDelete = service.getBundle(locale.getCode(), null).getLastModified();
+
+        service.delete(newest.getId());
+        // As after a TTL eviction or a restart
+        bundleStore.clear();
+        TranslationBundle rebuilt = service.getBundle(locale.getCode(), null);
+
+        assertEquals(1, rebuilt.getEntries().size());
+        assertTrue(rebuilt.getLastModified().isAfter(beforeDelete),
+                "rebuilt " + rebuilt.getLastModified() + " should be after " + beforeDelete);
+        TranslationBundle tagged = service.getBundle(locale.getCode(), tag.getName());
+        assertTrue(tagged.getLastModified().isAfter(beforeDelete));
+    }
+
+    @Test
+    void exportDelta_recentToken_returnsChangesAndDeletes() {
+        Translation kept = create("kept", "Kept");
+        Translation removed = create("removed", "Removed");
+        String token = SyncToken.encode(service.getBundle(locale.getCode(), null).getLastModified());
+
+        service.update(kept.getId(), new TranslationRequestDTO("kept", locale.getId(), "Kept again", tag.getId()));
+        service.delete(removed.getId());
+        TranslationDeltaDTO delta = service.exportDelta(locale.getCode(), null, token);
+
+        assertFalse(delta.isReset());
+        assertEquals("Kept again", delta.getUpserts().get("kept"));
+        assertEquals(List.of("removed"), delta.getDeletes());
+    }
+
+    @Test
+    void exportDelta_tokenOlderThanRetention_returnsFullResync() {
+        create("one", "One");
+        create("two", "Two");
+        String expired = SyncToken.encode(LocalDateTime.now().minusDays(31));
+
+        TranslationDeltaDTO delta = service.exportDelta(locale.getCode(), null, expired);
+
+        assertTrue(delta.isReset());
+        assertEquals(Map.of("one", "One", "two", "Two"), delta.getUpserts());
+        assertTrue(delta.getDeletes().isEmpty());
+        assertEquals(service.getBundle(locale.getCode(), null).getLastModified(),
+                SyncToken.decode(delta.getNext()).atZone(ZoneId.systemDefault()).toInstant());
+    }
+
+    @Test
+    void prune_dropsExpiredTombstones_butKeepsNewestPerBundle() {
+        LocalDateTime now = LocalDateTime.now();
+        tombstone("old-a", tag.getName(), now.minusDays(60));
+        tombstone("old-b", tag.getName(), now.minusDays(45));
+        tombstone("recent", tag.getName(), now.minusDays(1));
+        tombstone("untagged-old", null, now.minusDays(50));
+        tombstone("untagged-older", null, now.minusDays(70));
+
+        tombstonePruner.prune();
+
+        List<String> left = tombstoneRepository.findByLocaleCodeAndDeletedAtAfter(locale.getCode(), now.minusYears(1))
+                .stream().map(TranslationTombstone::getKey).sorted().collect(Collectors.toList());
+        // "untagged-old" is the newest tombstone without a tag, so it is kept as that bundle's watermark
+        assertEquals(List.of("recent", "untagged-old"), left);
+    }
+
+    @Test
+    void create_intoAnOccupiedSlot_isRejectedAsADuplicate() {
+        create("greeting", "Hello");
+
+        CustomException duplicate = assertThrows(CustomException.class, () -> create(" Greeting ", "Hi"));
+
+        assertEquals("Duplicate translation key for the selected locale and tag", duplicate.getMessage());
+        assertEquals(Map.of("greeting", "Hello"), service.getBundle(locale.getCode(), null).getEntries());
+    }
+
+    @Test
+    void update_intoAnOccupiedSlot_isRejectedAsADuplicate() {
+        create("greeting", "Hello");
+        Translation farewell = create("farewell", "Bye");
+
+        CustomException duplicate = assertThrows(CustomException.class, () -> service.update(farewell.getId(),
+                new TranslationRequestDTO("greeting", locale.getId(), "Bye", tag.getId())));
+
+        assertEquals("Duplicate translation key for the selected locale and tag", duplicate.getMessage());
+        assertEquals(Map.of("greeting", "Hello", "farewell", "Bye"), service.getBundle(locale.getCode(), null).getEntries());
+    }
+
+    @Test
+    void create_otherIntegrityViolations_propagate() {
+        assertThrows(DataIntegrityViolationException.class, () -> create("k".repeat(300), "Too long a key"));
+    }
+
+    @Test
+    void renameLocale_bundlesAndKeyIndexFollowTheNewCode() {
+        create("greeting", "Hello");
+        String previous = locale.getCode();
+        assertEquals(Map.of("greeting", "Hello"), service.getBundle(previous, null).getEntries());
+        assertEquals(1, keyIndex.find(previous, "greet*", null, null, 10).getContent().size());
+
+        LocaleRequestDTO renamed = localeService.update(locale.getId(),
+                new LocaleRequestDTO(locale.getId(), previous + "-renamed"));
+
+        assertThrows(CustomException.class, () -> service.getBundle(previous, null));
+        assertTrue(keyIndex.find(previous, "greet*", null, null, 10).getContent().isEmpty());
+        assertEquals(Map.of("greeting", "Hello"), service.getBundle(renamed.getCode(), null).getEntries());
+        assertEquals(1, keyIndex.find(renamed.getCode(), "greet*", null, null, 10).getContent().size());
+    }
+
+    @Test
+    void renameTag_taggedBundleFollowsTheNewName() {
+        create("greeting", "Hello");
+        String previous = tag.getName();
+        assertEquals(Map.of("greeting", "Hello"), service.getBundle(locale.getCode(), previous).getEntries());
+
+        TagRequestDTO renamed = tagService.update(tag.getId(), new TagRequestDTO(tag.getId(), previous + "-renamed"));
+
+        assertThrows(CustomException.class, () -> service.getBundle(locale.getCode(), previous));
+        assertEquals(Map.of("greeting", "Hello"), service.getBundle(locale.getCode(), renamed.getName()).getEntries());
+        assertEquals(Map.of("greeting", "Hello"), service.getBundle(locale.getCode(), null).getEntries());
+    }
+
+    @Test
+    void searchAfter_pagesThroughATagWithoutGapsOrRepeats() {
+        create("one", "One");
+        create("two", "Two");
+        create("three", "Three");
+
+        CursorPageDTO<FullTranslationExportDTO> first = service.searchAfter(null, tag.getName(), null, null, 2);
+        CursorPageDTO<FullTranslationExportDTO> second =
+                service.searchAfter(null, tag.getName(), null, first.getNextCursor(), 2);
+
+        assertTrue(first.isHasMore());
+        assertFalse(second.isHasMore());
+        List<String> keys = Stream.concat(first.getContent().stream(), second.getContent().stream())
+                .map(FullTranslationExportDTO::getKey).sorted().collect(Collectors.toList());
+        assertEquals(List.of("one", "three", "two"), keys);
+        assertEquals(locale.getCode(), first.getContent().get(0).getLocaleCode());
+    }
+
+    @Test
+    void cursorPages_sizeAboveTheCap_isRejected() {
+        assertThrows(CustomException.class, () -> service.searchAfter(null, null, null, null, Integer.MAX_VALUE));
+        assertThrows(CustomException.class, () -> service.exportAllAfter(null, Integer.MAX_VALUE));
+    }
+
+    @Test
+    void exportJson_pageStoredLateByAReadThatStartedBeforeAWrite_isNotServed() {
+        Translation greeting = create("greeting", "Hello");
+        PageRequest pageable = PageRequest.of(0, 10);
+        assertEquals("Hello", service.exportJson(locale.getCode(), null, pageable).getContent().get(0).getContent());
+        long epochBeforeWrite = bundleStore.epoch(locale.getCode());
+        Page<TranslationExportDTO> stale = service.exportJson(locale.getCode(), null, pageable);
+
+        service.update(greeting.getId(), new TranslationRequestDTO("greeting", locale.getId(), "Hi", tag.getId()));
+        // As the read that loaded the stale page would once the write had committed
+        cacheManager.getCache(CacheConfig.LOCALE_TRANSLATIONS)
+                .put(Arrays.asList(locale.getCode(), null, pageable, epochBeforeWrite), stale);
+
+        assertEquals("Hi", service.exportJson(locale.getCode(), null, pageable).getContent().get(0).getContent());
+    }
+
+    @Test
+    void exportPage_sameContentUpdateMovesARowToAnotherPage_isNotAnsweredWithNotModified() {
+        Translation older = create("greeting", "Hello");
+        create("farewell", "Bye");
+        TagRequestDTO other = tagService.create(new TagRequestDTO(null, tag.getName() + "-other"));
+        ResponseEntity<Map<String, Object>> first = controller.export(locale.getCode(), null, 0, 1, webRequest(null));
+        assertEquals(Map.of("farewell", "Bye"), first.getBody().get("data"));
+
+        // Retagging leaves every (key, content) pair of the locale as it was, but makes the row the newest
+        service.update(older.getId(), new TranslationRequestDTO("greeting", locale.getId(), "Hello", other.getId()));
+        ResponseEntity<Map<String, Object>> second = controller.export(locale.getCode(), null, 0, 1,
+                webRequest(first.getHeaders().getETag()));
+
+        assertEquals(HttpStatus.OK, second.getStatusCode());
+        assertEquals(Map.of("greeting", "Hello"), second.getBody().get("data"));
+        assertEquals(HttpStatus.NOT_MODIFIED, controller.export(locale.getCode(), null, 0, 1,
+                webRequest(second.getHeaders().getETag())).getStatusCode());
+    }
+
+    private static ServletWebRequest webRequest(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/translations/exportByLocalAndTag");
+        if (ifNoneMatch != null) {
+            request.addHeader("If-None-Match", ifNoneMatch);
+        }
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
+
+    private void tombstone(String key, String tagName, LocalDateTime deletedAt) {
+        tombstoneRepository.save(TranslationTombstone.builder()
+                .key(key).localeCode(locale.getCode()).tagName(tagName).deletedAt(deletedAt).build());
+    }
+
+    private Translation create(String key, String content) {
+        return service.create(new TranslationRequestDTO(key, locale.getId(), content, tag.getId()));
+    }
+}
@@ -1,5 +1,6 @@
 package com.service.translations.tesController;
 
+import com.service.translations.config.LoginExecutor;
 import com.service.translations.controller.AuthController;
 import com.service.translations.dto.AuthRequestDTO;
 import com.service.translations.dto.AuthResponseDTO;
@@ -16,6 +17,9 @@ import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -33,9 +37,14 @@ class AuthControllerTest {
     @Mock
     private JwtUtil jwtUtil;
 
+    @Mock
+    private LoginExecutor loginExecutor;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        when(loginExecutor.supply(any())).thenAnswer(invocation ->
+                CompletableFuture.completedFuture(invocation.<Supplier<?>>getArgument(0).get()));
     }
 
     @Test
@@ -46,7 +55,7 @@ class AuthControllerTest {
         when(userDetailsService.loadUserByUsername("admin")).thenReturn(userDetails);
         when(jwtUtil.generateToken("admin")).thenReturn("mock-token");
 
-        ResponseEntity<?> response = authController.login(request);
+        ResponseEntity<?> response = authController.login(request).join();
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         AuthResponseDTO body = (AuthResponseDTO) response.getBody();
@@ -61,7 +70,7 @@ class AuthControllerTest {
         doThrow(new BadCredentialsException("Bad credentials"))
                 .when(authenticationManager).authenticate(any());
 
-        ResponseEntity<?> response = authController.login(request);
+        ResponseEntity<?> response = authController.login(request).join();
 
         assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
         assertEquals("Invalid username or password", response.getBody());
@@ -71,7 +80,7 @@ class AuthControllerTest {
     void login_missingUsername_returnsBadRequest() {
         AuthRequestDTO request = new AuthRequestDTO(null, "password");
 
-        ResponseEntity<?> response = authController.login(request);
+        ResponseEntity<?> response = authController.login(request).join();
 
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
         assertEquals("Invalid request. Missing username or password.", response.getBody());
@@ -83,9 +92,21 @@ class AuthControllerTest {
 
         when(userDetailsService.loadUserByUsername("ghost")).thenReturn(null);
 
-        ResponseEntity<?> response = authController.login(request);
+        ResponseEntity<?> response = authController.login(request).join();
 
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
         assertEquals("User not found", response.getBody());
     }
+
+    @Test
+    void login_loginPoolSaturated_returnsTooManyRequests() {
+        AuthRequestDTO request = new AuthRequestDTO("admin", "12345678");
+        doThrow(new RejectedExecutionException("login executor is saturated")).when(loginExecutor).supply(any());
+
+        ResponseEntity<?> response = authController.login(request).join();
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, response.getStatusCode());
+        assertEquals("1", response.getHeaders().getFirst("Retry-After"));
+        verifyNoInteractions(authenticationManager);
+    }
 }
@@ -1,13 +1,30 @@
 package com.service.translations.tesController;
 
+import com.service.translations.cache.TranslationBundle;
+import com.service.translations.config.ExportExecutor;
 import com.service.translations.controller.TranslationController;
+import com.service.translations.dto.CursorPageDTO;
+import com.service.translations.dto.FullTextSearchResultDTO;
 import com.service.translations.dto.FullTranslationExportDTO;
+import com.service.translations.dto.LocaleCoverageDTO;
+import com.service.translations.dto.PublicBundleUrlDTO;
+import com.service.translations.dto.TranslationImportResultDTO;
+import com.service.translations.dto.TranslationImportRowDTO;
+import com.service.translations.dto.TranslationKeyDTO;
+import com.service.translations.dto.TranslationDeltaDTO;
 import com.service.translations.dto.TranslationExportDTO;
+import com.service.translations.dto.TranslationExportVersionDTO;
 import com.service.translations.dto.TranslationRequestDTO;
+import com.service.translations.dto.TranslationSearchHitDTO;
 import com.service.translations.entity.Translation;
 import com.service.translations.exception.CustomException;
+import com.service.translations.metrics.ExportMetrics;
 import com.service.translations.repository.TranslationRepository;
+import com.service.translations.service.TranslationCoverageService;
+import com.service.translations.service.TranslationImportService;
+import com.service.translations.service.TranslationSearchService;
 import com.service.translations.service.TranslationService;
+import com.service.translations.util.BundleUrlSigner;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
@@ -17,11 +34,21 @@ import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.*;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -38,6 +65,24 @@ class TranslationControllerTest {
     @Mock
     private TranslationRepository repo;
 
+    @Mock
+    private TranslationImportService importService;
+
+    @Mock
+    private TranslationSearchService searchService;
+
+    @Mock
+    private TranslationCoverageService coverageService;
+
+    @Mock
+    private BundleUrlSigner bundleUrlSigner;
+
+    @Mock
+    private ExportExecutor exportExecutor;
+
+    @Mock
+    private ExportMetrics exportMetrics;
+
     @InjectMocks
     private TranslationController controller;
 
@@ -80,6 +125,86 @@ class TranslationControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("Import Translations")
+    class ImportTranslationsTests {
+        @Test
+        @DisplayName("Should return import summary with per-row errors")
+        void importJson_returnsSummary() {
+            log.info("Running test: importJson_returnsSummary");
+            List<TranslationImportRowDTO> rows = List.of(
+                    new TranslationImportRowDTO(KEY_HELLO, LOCALE_EN, TAG_GENERAL, CONTENT_HELLO),
+                    new TranslationImportRowDTO(KEY_WELCOME, "xx", TAG_GENERAL, CONTENT_WELCOME));
+            TranslationImportResultDTO result = new TranslationImportResultDTO(2, 1, 0, 1,
+                    List.of(new TranslationImportResultDTO.RowError(2, KEY_WELCOME, "Locale not found: xx")));
+
+            when(importService.importRows(rows, true)).thenReturn(result);
+
+            ResponseEntity<TranslationImportResultDTO> response = controller.importJson(rows, true);
+
+            assertAll(
+                    () -> assertEquals(HttpStatus.OK, response.getStatusCode()),
+                    () -> assertEquals(1, response.getBody().getInserted()),
+                    () -> assertEquals(1, response.getBody().getFailed()),
+                    () -> assertEquals(2, response.getBody().getErrors().get(0).getRow())
+            );
+            verify(importService).importRows(rows, true);
+        }
+
+        @Test
+        @DisplayName("Should propagate exception for malformed CSV")
+        void importCsv_malformed_throwsException() {
+            log.info("Running test: importCsv_malformed_throwsException");
+            String csv = "key,locale\nhello,en";
+            when(importService.importCsv(csv, false))
+                    .thenThrow(new CustomException("Invalid CSV: missing column 'tag'"));
+
+            CustomException exception = assertThrows(CustomException.class, () -> controller.importCsv(csv, false));
+
+            assertEquals("Invalid CSV: missing column 'tag'", exception.getMessage());
+        }
+    }
+
+    @Nested
+    @DisplayName("Translation Coverage")
+    class CoverageTests {
+        @Test
+        @DisplayName("Should return completeness per locale against the reference")
+        void coverage_returnsCompletenessPerLocale() {
+            log.info("Running test: coverage_returnsCompletenessPerLocale");
+            List<LocaleCoverageDTO> expected = List.of(
+                    new LocaleCoverageDTO(LOCALE_FR, TAG_MOBILE, LOCALE_EN, 4, 3, 1, 75.0));
+
+            when(coverageService.coverage(TAG_MOBILE)).thenReturn(expected);
+
+            ResponseEntity<List<LocaleCoverageDTO>> response = controller.coverage(TAG_MOBILE);
+
+            assertAll(
+                    () -> assertEquals(HttpStatus.OK, response.getStatusCode()),
+                    () -> assertEquals(75.0, response.getBody().get(0).getCompleteness()),
+                    () -> assertEquals(1, response.getBody().get(0).getMissingKeys())
+            );
+        }
+
+        @Test
+        @DisplayName("Should return keys missing from a locale")
+        void missingKeys_returnsMissingKeys() {
+            log.info("Running test: missingKeys_returnsMissingKeys");
+            CursorPageDTO<TranslationKeyDTO> expected = new CursorPageDTO<>(
+                    List.of(new TranslationKeyDTO(KEY_HELLO, List.of(TAG_MOBILE))), 1, false, null);
+
+            when(coverageService.missingKeys(LOCALE_FR, null, null, 100)).thenReturn(expected);
+
+            ResponseEntity<CursorPageDTO<TranslationKeyDTO>> response = controller.missingKeys(LOCALE_FR, null, null, 100);
+
+            assertAll(
+                    () -> assertEquals(HttpStatus.OK, response.getStatusCode()),
+                    () -> assertEquals(KEY_HELLO, response.getBody().getContent().get(0).getKey()),
+                    () -> assertFalse(response.getBody().isHasMore())
+            );
+        }
+    }
+
     @Nested
     @DisplayName("Search Translations")
     class SearchTranslationsTests {
@@ -106,12 +231,116 @@ class TranslationControllerTest {
             );
             log.info("Search results: {}", response.getBody().getContent());
         }
+
+        @Test
+        @DisplayName("Should return flat rows as a slice when the count is skipped")
+        void searchFlat_withoutCount_returnsSlice() {
+            log.info("Running test: searchFlat_withoutCount_returnsSlice");
+            Pageable pageable = PageRequest.of(0, 10, Sort.by("updatedAt").descending());
+            Slice<FullTranslationExportDTO> expected = new SliceImpl<>(List.of(
+                    new FullTranslationExportDTO(VALID_ID, LOCALE_EN, KEY_WELCOME, CONTENT_WELCOME, TAG_MOBILE,
+                            LocalDateTime.now())), pageable, true);
+
+            when(service.searchFlat(KEY_WELCOME, TAG_MOBILE, null, pageable, false)).thenReturn(expected);
+
+            ResponseEntity<Slice<FullTranslationExportDTO>> response =
+                    controller.searchFlat(KEY_WELCOME, TAG_MOBILE, null, 0, 10, false);
+
+            assertAll(
+                    () -> assertEquals(HttpStatus.OK, response.getStatusCode()),
+                    () -> assertEquals(TAG_MOBILE, response.getBody().getContent().get(0).getTagName()),
+                    () -> assertTrue(response.getBody().hasNext())
+            );
+        }
+
+        @Test
+        @DisplayName("Should return ranked full-text hits for a locale")
+        void searchFullText_returnsRankedHits() {
+            log.info("Running test: searchFullText_returnsRankedHits");
+            FullTextSearchResultDTO expected = new FullTextSearchResultDTO(1, true, 0, 20, List.of(
+                    new TranslationSearchHitDTO(VALID_ID, LOCALE_EN, KEY_WELCOME, CONTENT_WELCOME, TAG_MOBILE,
+                            LocalDateTime.now(), 1.5f)));
+
+            when(searchService.fullText(LOCALE_EN, "welc*", null, 0, 20)).thenReturn(expected);
+
+            ResponseEntity<FullTextSearchResultDTO> response = controller.searchFullText(LOCALE_EN, "welc*", null, 0, 20);
+
+            assertAll(
+                    () -> assertEquals(HttpStatus.OK, response.getStatusCode()),
+                    () -> assertEquals(1, response.getBody().getTotalHits()),
+                    () -> assertEquals(KEY_WELCOME, response.getBody().getHits().get(0).getKey())
+            );
+        }
+
+        @Test
+        @DisplayName("Should return keys matching a prefix with the next cursor")
+        void searchKeys_withPrefix_returnsKeyPage() {
+            log.info("Running test: searchKeys_withPrefix_returnsKeyPage");
+            CursorPageDTO<TranslationKeyDTO> expected = new CursorPageDTO<>(List.of(
+                    new TranslationKeyDTO("checkout.payment.title", List.of(TAG_MOBILE))), 1, true,
+                    "checkout.payment.title");
+
+            when(searchService.keys(LOCALE_EN, "checkout.payment.", null, null, 1)).thenReturn(expected);
+
+            ResponseEntity<CursorPageDTO<TranslationKeyDTO>> response =
+                    controller.searchKeys(LOCALE_EN, "checkout.payment.", null, null, 1);
+
+            assertAll(
+                    () -> assertEquals(HttpStatus.OK, response.getStatusCode()),
+                    () -> assertEquals("checkout.payment.title", response.getBody().getContent().get(0).getKey()),
+                    () -> assertEquals("checkout.payment.title", response.getBody().getNextCursor())
+            );
+        }
+
+        @Test
+        @DisplayName("Should return near-duplicates of a prospective translation")
+        void findSimilar_returnsNearDuplicates() {
+            log.info("Running test: findSimilar_returnsNearDuplicates");
+            List<TranslationSearchHitDTO> expected = List.of(new TranslationSearchHitDTO(VALID_ID, LOCALE_EN,
+                    "auth.sign_in", "Sign in", TAG_MOBILE, LocalDateTime.now(), 1.0f));
+
+            when(searchService.similar(LOCALE_EN, "auth.signin", "Sign-in", 0.6, 10)).thenReturn(expected);
+
+            ResponseEntity<List<TranslationSearchHitDTO>> response =
+                    controller.findSimilar(LOCALE_EN, "auth.signin", "Sign-in", 0.6, 10);
+
+            assertAll(
+                    () -> assertEquals(HttpStatus.OK, response.getStatusCode()),
+                    () -> assertEquals(1, response.getBody().size()),
+                    () -> assertEquals("Sign in", response.getBody().get(0).getContent())
+            );
+        }
+
+        @Test
+        @DisplayName("Should return a cursor page with the continuation token")
+        void searchAfter_withCursor_returnsNextPage() {
+            log.info("Running test: searchAfter_withCursor_returnsNextPage");
+            CursorPageDTO<FullTranslationExportDTO> expected = new CursorPageDTO<>(List.of(
+                    new FullTranslationExportDTO(VALID_ID, LOCALE_EN, KEY_WELCOME, CONTENT_WELCOME, TAG_MOBILE, null)),
+                    1, true, "next");
+
+            when(service.searchAfter(KEY_WELCOME, TAG_MOBILE, null, "cursor", 1)).thenReturn(expected);
+
+            ResponseEntity<CursorPageDTO<FullTranslationExportDTO>> response =
+                    controller.searchAfter(KEY_WELCOME, TAG_MOBILE, null, "cursor", 1);
+
+            assertAll(
+                    () -> assertEquals(HttpStatus.OK, response.getStatusCode()),
+                    () -> assertEquals(1, response.getBody().getContent().size()),
+                    () -> assertTrue(response.getBody().isHasMore()),
+                    () -> assertEquals("next", response.getBody().getNextCursor())
+            );
+        }
     }
 
     @Nested
     @DisplayName("Export Translations")
     class ExportTranslationsTests {
 
+        private final LocalDateTime UPDATED_AT = LocalDateTime.of(2024, 1, 1, 0, 0, 0, 500);
+        private final String PAGE_ETAG =
+                "W/\"2-" + UPDATED_AT.atZone(ZoneId.systemDefault()).toEpochSecond() + ".500-0-10\"";
+
         @Test
         @DisplayName("Should return translations map for given locale and tag")
         void export_validLocaleAndTag_returnsJsonMap() {
@@ -129,9 +358,10 @@ class TranslationControllerTest {
 
             Page<TranslationExportDTO> mockPage = new PageImpl<>(exportData, PageRequest.of(page, size), exportData.size());
 
+            when(service.exportVersion(locale, tag)).thenReturn(new TranslationExportVersionDTO(2, UPDATED_AT));
             when(service.exportJson(eq(locale), eq(tag), any(Pageable.class))).thenReturn(mockPage);
 
-            ResponseEntity<Map<String, Object>> response = controller.export(locale, tag, page, size);
+            ResponseEntity<Map<String, Object>> response = controller.export(locale, tag, page, size, webRequest(null));
 
             assertAll(
                     () -> assertEquals(HttpStatus.OK, response.getStatusCode()),
@@ -141,12 +371,183 @@ class TranslationControllerTest {
                     () -> assertEquals(0, response.getBody().get("currentPage")),
                     () -> assertEquals(2L, response.getBody().get("totalItems")),
                     () -> assertEquals(1, response.getBody().get("totalPages")),
-                    () -> assertNotNull(response.getBody().get("processingTimeMs"))
+                    () -> assertNotNull(response.getBody().get("processingTimeMs")),
+                    () -> assertEquals(PAGE_ETAG, response.getHeaders().getETag())
             );
 
             log.info("Exported data: {}", response.getBody());
         }
 
+        @Test
+        @DisplayName("Should return 304 without querying the page when the ETag matches")
+        void export_matchingETag_returnsNotModified() {
+            log.info("Running test: export_matchingETag_returnsNotModified");
+
+            when(service.exportVersion(LOCALE_EN, TAG_MOBILE)).thenReturn(new TranslationExportVersionDTO(2, UPDATED_AT));
+
+            ResponseEntity<Map<String, Object>> response =
+                    controller.export(LOCALE_EN, TAG_MOBILE, 0, 10, webRequest(PAGE_ETAG));
+
+            assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+            verify(service, never()).exportJson(any(), any(), any());
+        }
+
+
+        @Test
+        @DisplayName("Should return the pre-serialized bundle for a locale")
+        void exportFull_existingBundle_returnsSerializedJson() {
+            log.info("Running test: exportFull_existingBundle_returnsSerializedJson");
+
+            byte[] json = "{\"greeting\":\"Hello\"}".getBytes();
+            TranslationBundle bundle = createBundle("\"abc-1\"");
+            when(bundle.isEmpty()).thenReturn(false);
+            when(bundle.getJson()).thenReturn(json);
+            when(service.getBundle(LOCALE_EN, TAG_MOBILE)).thenReturn(bundle);
+
+            ResponseEntity<byte[]> response = controller.exportFull(LOCALE_EN, TAG_MOBILE, webRequest(null));
+
+            assertAll(
+                    () -> assertEquals(HttpStatus.OK, response.getStatusCode()),
+                    () -> assertArrayEquals(json, response.getBody()),
+                    () -> assertEquals("max-age=21600", response.getHeaders().getCacheControl()),
+                    () -> assertEquals("\"abc-1\"", response.getHeaders().getETag()),
+                    () -> assertNotNull(response.getHeaders().getFirst("X-Sync-Token"))
+            );
+        }
+
+        @Test
+        @DisplayName("Should return 304 for a bundle the client already has")
+        void exportFull_matchingETag_returnsNotModified() {
+            log.info("Running test: exportFull_matchingETag_returnsNotModified");
+
+            TranslationBundle bundle = createBundle("\"abc-1\"");
+            when(bundle.isEmpty()).thenReturn(false);
+            when(service.getBundle(LOCALE_EN, TAG_MOBILE)).thenReturn(bundle);
+
+            ResponseEntity<byte[]> response = controller.exportFull(LOCALE_EN, TAG_MOBILE, webRequest("\"abc-1\""));
+
+            assertAll(
+                    () -> assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode()),
+                    () -> assertNull(response.getBody())
+            );
+            verify(bundle, never()).getJson();
+        }
+
+        @Test
+        @DisplayName("Should return 304 when the bundle is no newer than If-Modified-Since")
+        void exportFull_notModifiedSince_returnsNotModified() {
+            log.info("Running test: exportFull_notModifiedSince_returnsNotModified");
+
+            TranslationBundle bundle = createBundle("\"abc-1\"");
+            when(bundle.isEmpty()).thenReturn(false);
+            when(service.getBundle(LOCALE_EN, TAG_MOBILE)).thenReturn(bundle);
+
+            ResponseEntity<byte[]> response = controller.exportFull(LOCALE_EN, TAG_MOBILE,
+                    webRequest(null, Instant.parse("2024-01-01T00:00:00Z")));
+
+            assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+            verify(bundle, never()).getJson();
+        }
+
+        @Test
+        @DisplayName("Should let a stale ETag win over a current If-Modified-Since")
+        void exportFull_staleETagWithCurrentDate_returnsBundle() {
+            log.info("Running test: exportFull_staleETagWithCurrentDate_returnsBundle");
+
+            byte[] json = "{\"greeting\":\"Hello\"}".getBytes();
+            TranslationBundle bundle = createBundle("\"abc-2\"");
+            when(bundle.isEmpty()).thenReturn(false);
+            when(bundle.getJson()).thenReturn(json);
+            when(service.getBundle(LOCALE_EN, TAG_MOBILE)).thenReturn(bundle);
+
+            ResponseEntity<byte[]> response = controller.exportFull(LOCALE_EN, TAG_MOBILE,
+                    webRequest("\"abc-1\"", Instant.parse("2024-01-01T00:00:00Z")));
+
+            assertAll(
+                    () -> assertEquals(HttpStatus.OK, response.getStatusCode()),
+                    () -> assertArrayEquals(json, response.getBody()),
+                    () -> assertEquals("\"abc-2\"", response.getHeaders().getETag())
+            );
+        }
+
+        @Test
+        @DisplayName("Should return a signed URL addressed by the bundle content")
+        void exportPublicUrl_enabled_returnsSignedUrl() {
+            log.info("Running test: exportPublicUrl_enabled_returnsSignedUrl");
+
+            TranslationBundle bundle = mock(TranslationBundle.class);
+            when(bundle.isEmpty()).thenReturn(false);
+            when(bundle.getContentId()).thenReturn("abc-1");
+            when(service.getBundle(LOCALE_EN, TAG_MOBILE)).thenReturn(bundle);
+            when(bundleUrlSigner.isEnabled()).thenReturn(true);
+            when(bundleUrlSigner.expiry(any(Instant.class))).thenReturn(Instant.ofEpochSecond(3600));
+            when(bundleUrlSigner.url(LOCALE_EN, TAG_MOBILE, "abc-1", 3600))
+                    .thenReturn("/public/bundles/en/abc-1.json?tag=mobile&expires=3600&sig=s");
+
+            ResponseEntity<PublicBundleUrlDTO> response = controller.exportPublicUrl(LOCALE_EN, TAG_MOBILE);
+
+            assertAll(
+                    () -> assertEquals(HttpStatus.OK, response.getStatusCode()),
+                    () -> assertEquals("/public/bundles/en/abc-1.json?tag=mobile&expires=3600&sig=s", response.getBody().getUrl()),
+                    () -> assertEquals("abc-1", response.getBody().getContentId()),
+                    () -> assertEquals(Instant.ofEpochSecond(3600), response.getBody().getExpiresAt())
+            );
+        }
+
+        @Test
+        @DisplayName("Should reject public URL requests when the feature is disabled")
+        void exportPublicUrl_disabled_throwsException() {
+            log.info("Running test: exportPublicUrl_disabled_throwsException");
+
+            when(bundleUrlSigner.isEnabled()).thenReturn(false);
+
+            CustomException ex = assertThrows(CustomException.class,
+                    () -> controller.exportPublicUrl(LOCALE_EN, TAG_MOBILE));
+
+            assertEquals("Public bundle URLs are disabled", ex.getMessage());
+            verify(service, never()).getBundle(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should return changed and deleted keys since the given token")
+        void exportDelta_withToken_returnsChanges() {
+            log.info("Running test: exportDelta_withToken_returnsChanges");
+
+            TranslationDeltaDTO delta = new TranslationDeltaDTO(
+                    Map.of(KEY_HELLO, CONTENT_HELLO), List.of(KEY_WELCOME), "next-token", false);
+            when(service.exportDelta(LOCALE_EN, TAG_MOBILE, "token")).thenReturn(delta);
+
+            ResponseEntity<TranslationDeltaDTO> response = controller.exportDelta(LOCALE_EN, TAG_MOBILE, "token");
+
+            assertAll(
+                    () -> assertEquals(HttpStatus.OK, response.getStatusCode()),
+                    () -> assertEquals(CONTENT_HELLO, response.getBody().getUpserts().get(KEY_HELLO)),
+                    () -> assertEquals(List.of(KEY_WELCOME), response.getBody().getDeletes()),
+                    () -> assertEquals("next-token", response.getBody().getNext())
+            );
+        }
+
+        private TranslationBundle createBundle(String eTag) {
+            TranslationBundle bundle = mock(TranslationBundle.class);
+            lenient().when(bundle.getETag()).thenReturn(eTag);
+            when(bundle.getLastModified()).thenReturn(Instant.parse("2024-01-01T00:00:00Z"));
+            return bundle;
+        }
+
+        private ServletWebRequest webRequest(String ifNoneMatch) {
+            return webRequest(ifNoneMatch, null);
+        }
+
+        private ServletWebRequest webRequest(String ifNoneMatch, Instant ifModifiedSince) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/translations/export");
+            if (ifNoneMatch != null) {
+                request.addHeader("If-None-Match", ifNoneMatch);
+            }
+            if (ifModifiedSince != null) {
+                request.addHeader("If-Modified-Since", Date.from(ifModifiedSince));
+            }
+            return new ServletWebRequest(request, new MockHttpServletResponse());
+        }
 
     private TranslationExportDTO createExportDto(String key, String content) {
             TranslationExportDTO dto = mock(TranslationExportDTO.class);
@@ -287,6 +688,8 @@ class TranslationControllerTest {
             );
 
             when(service.exportAll(any(Pageable.class))).thenReturn(mockPage);
+            when(exportExecutor.supply(any())).thenAnswer(invocation ->
+                    CompletableFuture.completedFuture(invocation.<Supplier<?>>getArgument(0).get()));
 
             CompletableFuture<ResponseEntity<Map<String, Object>>> futureResponse = controller.exportAll(0, 10000);
             ResponseEntity<Map<String, Object>> response = futureResponse.get(); // blocking call for test
@@ -310,6 +713,38 @@ class TranslationControllerTest {
 
             log.info("Exported all translations: {}", responseBody);
         }
+
+        @Test
+        @DisplayName("Should not query when the export pool rejects the request")
+        void exportAll_poolSaturated_throwsRejectedExecution() {
+            log.info("Running test: exportAll_poolSaturated_throwsRejectedExecution");
+
+            when(exportExecutor.supply(any())).thenThrow(new RejectedExecutionException("export executor is saturated"));
+
+            assertThrows(RejectedExecutionException.class, () -> controller.exportAll(0, 10000));
+            verify(service, never()).exportAll(any());
+        }
+
+        @Test
+        @DisplayName("Should stream translations for a locale through the service")
+        void exportStream_withLocale_delegatesToService() throws Exception {
+            log.info("Running test: exportStream_withLocale_delegatesToService");
+
+            when(service.streamAll(eq(LOCALE_EN), any())).thenAnswer(invocation -> {
+                invocation.<OutputStream>getArgument(1).write("{\"translations\":[]}".getBytes());
+                return 0L;
+            });
+
+            ResponseEntity<StreamingResponseBody> response = controller.exportStream(LOCALE_EN);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            response.getBody().writeTo(out);
+
+            assertAll(
+                    () -> assertEquals(HttpStatus.OK, response.getStatusCode()),
+                    () -> assertEquals("{\"translations\":[]}", out.toString())
+            );
+            verify(service).streamAll(eq(LOCALE_EN), any());
+        }
     }
         // Helper methods
     private TranslationRequestDTO createTranslationRequest(String key, Long localeId, String content, Long tagId) {
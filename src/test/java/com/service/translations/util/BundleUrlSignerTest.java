@@ -0,0 +1,59 @@
+package com.service.translations.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BundleUrlSignerTest {
+
+    private static final String JWT_SECRET = "jwt-secret";
+
+    @Test
+    public void constructor_enabledWithoutASecret_failsStartup() {
+        assertThrows(IllegalStateException.class, () -> signer(true, ""));
+    }
+
+    @Test
+    public void constructor_enabledWithTheJwtSecret_failsStartup() {
+        assertThrows(IllegalStateException.class, () -> signer(true, JWT_SECRET));
+    }
+
+    @Test
+    public void constructor_disabled_needsNoSecret() {
+        BundleUrlSigner signer = signer(false, "");
+
+        assertFalse(signer.isEnabled());
+        assertThrows(IllegalStateException.class, () -> signer.sign("en", null, "abc", 1L));
+    }
+
+    @Test
+    public void verify_acceptsItsOwnSignatureUntilExpiry() {
+        BundleUrlSigner signer = signer(true, "bundle-secret");
+        Instant now = Instant.parse("2026-01-01T00:00:00Z");
+        long expires = now.plusSeconds(60).getEpochSecond();
+        String signature = signer.sign("en", "web", "abc", expires);
+
+        assertTrue(signer.verify("en", "web", "abc", expires, signature, now));
+        assertFalse(signer.verify("en", "mobile", "abc", expires, signature, now));
+        assertFalse(signer.verify("en", "web", "abc", expires, signature, now.plusSeconds(60)));
+        assertFalse(signer(true, "other-secret").verify("en", "web", "abc", expires, signature, now));
+    }
+
+    @Test
+    public void expiry_roundsUpToTheBucket() {
+        BundleUrlSigner signer = signer(true, "bundle-secret");
+
+        assertEquals(Instant.parse("2026-01-08T01:00:00Z"), signer.expiry(Instant.parse("2026-01-01T00:00:01Z")));
+        assertEquals(Instant.parse("2026-01-08T01:00:00Z"), signer.expiry(Instant.parse("2026-01-01T00:59:59Z")));
+    }
+
+    private static BundleUrlSigner signer(boolean enabled, String secret) {
+        return new BundleUrlSigner(enabled, secret, JWT_SECRET, Duration.ofDays(7), Duration.ofHours(1), "");
+    }
+}
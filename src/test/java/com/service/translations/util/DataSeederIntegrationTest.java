@@ -0,0 +1,63 @@
+package com.service.translations.util;
+
+import com.service.translations.service.TranslationService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// A context of its own, and so an empty embedded database for the seeder to fill
+@SpringBootTest(properties = {
+        "translations.seed.rows=50",
+        "translations.seed.locales=seed-a,seed-b",
+        "translations.seed.tags=seed-web,seed-api",
+        "translations.seed.threads=2",
+        "translations.seed.batch-size=7"
+})
+@ActiveProfiles("seed")
+class DataSeederIntegrationTest {
+
+    private static final long ROWS = 50;
+
+    @Autowired
+    private TranslationService service;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void seed_fillsTheDatabaseOnStartupAndRebuildsTheBundles() throws InterruptedException {
+        awaitUntil(() -> count("select count(*) from translations") == ROWS);
+        long seedA = count("select count(*) from translations t join locale l on l.id = t.locale_id where l.code = 'seed-a'");
+
+        // The reload event at the end of seeding drops anything loaded while rows were still arriving
+        awaitUntil(() -> service.exportBundle("seed-a", null).size() == seedA);
+
+        Map<String, String> bundle = service.exportBundle("seed-a", null);
+        assertFalse(bundle.isEmpty());
+        assertTrue(bundle.keySet().stream().allMatch(key -> key.startsWith("key_")));
+        assertEquals(ROWS - seedA, service.exportBundle("seed-b", null).size());
+        assertEquals(ROWS, count("select count(distinct \"key\") from translations"));
+    }
+
+    private long count(String sql) {
+        Long count = jdbcTemplate.queryForObject(sql, Long.class);
+        return count == null ? 0 : count;
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + 30_000_000_000L;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Seeding did not finish in time");
+            Thread.sleep(50);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.service.translations.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SingleFlightTest {
+
+    private final SingleFlight<String, String> flights = new SingleFlight<>();
+    private final ExecutorService pool = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void run_concurrentCallersOfOneKey_shareOneLoad() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch leaderLoading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> leader = pool.submit(() -> flights.run("page", () -> {
+            loads.incrementAndGet();
+            leaderLoading.countDown();
+            await(release);
+            return "rows";
+        }));
+        assertTrue(leaderLoading.await(5, TimeUnit.SECONDS));
+        Future<String> follower = pool.submit(() -> flights.run("page", () -> {
+            loads.incrementAndGet();
+            return "other rows";
+        }));
+        // The follower has to be waiting on the leader's flight before it lands
+        Thread.sleep(100);
+        release.countDown();
+
+        assertEquals("rows", leader.get(5, TimeUnit.SECONDS));
+        assertEquals("rows", follower.get(5, TimeUnit.SECONDS));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void run_afterAFlightLands_loadsAgain() {
+        AtomicInteger loads = new AtomicInteger();
+
+        flights.run("page", () -> "v" + loads.incrementAndGet());
+        String second = flights.run("page", () -> "v" + loads.incrementAndGet());
+
+        assertEquals("v2", second);
+    }
+
+    @Test
+    public void run_differentKeys_doNotWaitOnEachOther() {
+        List<String> loaded = List.of(flights.run("a", () -> "A"), flights.run("b", () -> "B"));
+
+        assertEquals(List.of("A", "B"), loaded);
+    }
+
+    @Test
+    public void run_leaderFails_followerSeesTheSameUnwrappedException() throws Exception {
+        IllegalStateException failure = new IllegalStateException("query failed");
+        CountDownLatch leaderLoading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> leader = pool.submit(() -> flights.run("page", () -> {
+            leaderLoading.countDown();
+            await(release);
+            throw failure;
+        }));
+        assertTrue(leaderLoading.await(5, TimeUnit.SECONDS));
+        Future<Throwable> follower = pool.submit(() -> assertThrows(IllegalStateException.class,
+                () -> flights.run("page", () -> "unused")));
+        Thread.sleep(100);
+        release.countDown();
+
+        assertSame(failure, follower.get(5, TimeUnit.SECONDS));
+        assertThrows(Exception.class, () -> leader.get(5, TimeUnit.SECONDS));
+        assertEquals("fresh", flights.run("page", () -> "fresh"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
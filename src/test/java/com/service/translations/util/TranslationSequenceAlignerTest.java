@@ -0,0 +1,54 @@
+package com.service.translations.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TranslationSequenceAlignerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private TranslationSequenceAligner aligner;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.initMocks(this);
+        aligner = new TranslationSequenceAligner(jdbcTemplate);
+    }
+
+    @Test
+    public void align_sequenceBehindExistingIds_restartsOneBlockPastThem() {
+        when(jdbcTemplate.queryForObject("select max(id) from translations", Long.class)).thenReturn(1200L);
+        when(jdbcTemplate.queryForObject("select next value for translation_seq", Long.class)).thenReturn(51L);
+
+        aligner.align();
+
+        verify(jdbcTemplate).execute("alter sequence translation_seq restart with 1250");
+    }
+
+    @Test
+    public void align_sequenceAheadOfExistingIds_leavesItAlone() {
+        when(jdbcTemplate.queryForObject("select max(id) from translations", Long.class)).thenReturn(1200L);
+        when(jdbcTemplate.queryForObject("select next value for translation_seq", Long.class)).thenReturn(1250L);
+
+        aligner.align();
+
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    public void align_emptyTable_leavesTheSequenceAlone() {
+        aligner.align();
+
+        verify(jdbcTemplate, never()).queryForObject("select next value for translation_seq", Long.class);
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+}